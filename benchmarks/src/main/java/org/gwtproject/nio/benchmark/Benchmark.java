@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+/**
+ * A microbenchmark that repeats one operation, like reading one element or copying one block.
+ */
+abstract class Benchmark {
+
+    final String group;
+    final String name;
+
+    Benchmark(String group, String name) {
+        this.group = group;
+        this.name = name;
+    }
+
+    /** Prepares the data the operation works on, called once before the benchmark runs. */
+    void setUp() {
+    }
+
+    /**
+     * Performs the operation {@code ops} times.
+     *
+     * @return a value computed from the results, so that the work cannot be optimized away.
+     */
+    abstract double run(int ops);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/** The clock, heap statistics and output that run.js provides, see host.externs.js. */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "benchmarkHost")
+class BenchmarkHost {
+    /** Returns a timestamp in milliseconds, with sub-millisecond precision. */
+    static native double now();
+
+    /** Returns the text benchmark names have to contain to run, empty to run all. */
+    static native String filter();
+
+    static native void startAllocations();
+
+    /** Returns the number of bytes allocated on the JS heap since {@link #startAllocations()}. */
+    static native double stopAllocations();
+
+    /** Returns the number of garbage collections until the last {@link #stopAllocations()}. */
+    static native int gcCount();
+
+    static native void log(String line);
+
+    static native void report(String json);
+}
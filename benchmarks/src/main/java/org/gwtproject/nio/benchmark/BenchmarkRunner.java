@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import jsinterop.annotations.JsMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs the benchmarks and reports their results as JSON, see run.js.
+ * <p>
+ * Each benchmark is warmed up until the JIT has settled, then timed in several samples of
+ * repeated batches. Its result is the median of the samples' operations per second, along with
+ * the bytes allocated on the JS heap per operation over all samples.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private static final double WARMUP_MILLIS = 500;
+    private static final double BATCH_MILLIS = 10;
+    private static final double SAMPLE_MILLIS = 200;
+    private static final int SAMPLES = 5;
+
+    /** Collects the values the benchmarks return, so that their work cannot be optimized away. */
+    private static double sink;
+
+    private BenchmarkRunner() {
+    }
+
+    @JsMethod
+    public static void run() {
+        List<Benchmark> benchmarks = new ArrayList<>();
+        ScalarBenchmarks.addTo(benchmarks);
+        MultiByteBenchmarks.addTo(benchmarks);
+        BulkBenchmarks.addTo(benchmarks);
+        ViewBenchmarks.addTo(benchmarks);
+        CompactBenchmarks.addTo(benchmarks);
+        EqualsBenchmarks.addTo(benchmarks);
+
+        String filter = BenchmarkHost.filter();
+        StringBuilder json = new StringBuilder("{\"checks\":\"")
+                .append(System.getProperty("gwt.nio.checks", "checked"))
+                .append("\",\"benchmarks\":[");
+        boolean first = true;
+        for (Benchmark benchmark : benchmarks) {
+            if (!benchmark.name.contains(filter)) {
+                continue;
+            }
+            if (!first) {
+                json.append(',');
+            }
+            first = false;
+            measure(benchmark, json);
+        }
+        json.append("],\"checksum\":").append(number(sink)).append('}');
+        BenchmarkHost.report(json.toString());
+    }
+
+    private static void measure(Benchmark benchmark, StringBuilder json) {
+        benchmark.setUp();
+
+        // find a batch size that takes long enough to time, while warming up
+        int batch = 1;
+        double start = BenchmarkHost.now();
+        while (true) {
+            double t = BenchmarkHost.now();
+            sink += benchmark.run(batch);
+            t = BenchmarkHost.now() - t;
+            if (t < BATCH_MILLIS && batch < (1 << 28)) {
+                batch <<= 1;
+            } else if (BenchmarkHost.now() - start >= WARMUP_MILLIS) {
+                break;
+            }
+        }
+
+        double[] rates = new double[SAMPLES];
+        double totalOps = 0;
+        BenchmarkHost.startAllocations();
+        for (int s = 0; s < SAMPLES; s++) {
+            double ops = 0;
+            double t = BenchmarkHost.now();
+            double elapsed;
+            do {
+                sink += benchmark.run(batch);
+                ops += batch;
+                elapsed = BenchmarkHost.now() - t;
+            } while (elapsed < SAMPLE_MILLIS);
+            rates[s] = ops / elapsed * 1000;
+            totalOps += ops;
+        }
+        double allocated = BenchmarkHost.stopAllocations();
+
+        double[] sorted = Arrays.copyOf(rates, SAMPLES);
+        Arrays.sort(sorted);
+        double median = sorted[SAMPLES / 2];
+        double bytesPerOp = allocated / totalOps;
+        BenchmarkHost.log(benchmark.name + ": " + Math.round(median) + " ops/s, "
+                + Math.round(bytesPerOp * 10) / 10.0 + " bytes/op");
+
+        json.append("{\"group\":\"").append(benchmark.group)
+                .append("\",\"name\":\"").append(benchmark.name)
+                .append("\",\"opsPerSecond\":").append(median)
+                .append(",\"minOpsPerSecond\":").append(sorted[0])
+                .append(",\"maxOpsPerSecond\":").append(sorted[SAMPLES - 1])
+                .append(",\"bytesPerOp\":").append(number(bytesPerOp))
+                .append(",\"gcCount\":").append(BenchmarkHost.gcCount())
+                .append(",\"samples\":[");
+        for (int s = 0; s < SAMPLES; s++) {
+            if (s > 0) {
+                json.append(',');
+            }
+            json.append(rates[s]);
+        }
+        json.append("]}");
+    }
+
+    /** Returns the number as JSON, where NaN is not allowed. */
+    private static String number(double value) {
+        return Double.isNaN(value) ? "null" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+
+import static org.gwtproject.nio.benchmark.TestData.SIZE;
+
+/** Copies whole buffers of {@link TestData#SIZE} bytes, one copy per operation. */
+final class BulkBenchmarks {
+
+    private BulkBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        benchmarks.add(new Benchmark("bulk", "ByteBuffer.get(byte[])") {
+            ByteBuffer buffer;
+            byte[] array;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                array = new byte[SIZE];
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    buffer.get(array);
+                }
+                return array[sample(ops)];
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "ByteBuffer.put(byte[])") {
+            ByteBuffer buffer;
+            byte[] array;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                array = new byte[SIZE];
+                TestData.bytes().get(array);
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    buffer.put(array);
+                }
+                return buffer.get(sample(ops));
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "ByteBuffer.put(byte[],int,int)") {
+            ByteBuffer buffer;
+            byte[] array;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                array = new byte[SIZE + 1];
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    buffer.put(array, 1, SIZE);
+                }
+                return buffer.get(sample(ops));
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "ByteBuffer.put(ByteBuffer)") {
+            ByteBuffer buffer;
+            ByteBuffer source;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                source = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    source.clear();
+                    buffer.put(source);
+                }
+                return buffer.get(sample(ops));
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "FloatBuffer.get(float[])") {
+            FloatBuffer buffer;
+            float[] array;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+                array = new float[SIZE / 4];
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    buffer.get(array);
+                }
+                return array[sample(ops) >> 2];
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "FloatBuffer.put(float[])") {
+            FloatBuffer buffer;
+            float[] array;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+                array = new float[SIZE / 4];
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    buffer.put(array);
+                }
+                return buffer.get(sample(ops) >> 2);
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "FloatBuffer.put(FloatBuffer)") {
+            FloatBuffer buffer;
+            FloatBuffer source;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+                source = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    source.clear();
+                    buffer.put(source);
+                }
+                return buffer.get(sample(ops) >> 2);
+            }
+        });
+        benchmarks.add(new Benchmark("bulk", "IntBuffer.put(IntBuffer) swapped") {
+            IntBuffer buffer;
+            IntBuffer source;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(TestData.swapped()).asIntBuffer();
+                source = TestData.bytes(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                for (int i = 0; i < ops; i++) {
+                    buffer.clear();
+                    source.clear();
+                    buffer.put(source);
+                }
+                return buffer.get(sample(ops) >> 2);
+            }
+        });
+    }
+
+    /** Returns a byte index that depends on the number of operations. */
+    private static int sample(int ops) {
+        return ops & (SIZE - 1);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.List;
+
+import static org.gwtproject.nio.benchmark.TestData.SIZE;
+
+/**
+ * Compacts buffers after a quarter of their contents has been read, like a read loop that keeps
+ * the unread rest of its input. One compaction per operation.
+ */
+final class CompactBenchmarks {
+
+    private CompactBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        benchmarks.add(new Benchmark("compact", "ByteBuffer.compact()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.clear();
+                    b.position(SIZE / 4);
+                    b.compact();
+                }
+                return b.get(0);
+            }
+        });
+        benchmarks.add(new Benchmark("compact", "ByteBuffer read-compact cycle") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    // pretend the free space was filled, then read a quarter as ints and keep the rest
+                    b.position(b.capacity());
+                    b.flip();
+                    for (int j = 0; j < SIZE / 16; j++) {
+                        sum += b.getInt();
+                    }
+                    b.compact();
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("compact", "FloatBuffer.compact()") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                FloatBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.clear();
+                    b.position(SIZE / 16);
+                    b.compact();
+                }
+                return b.get(0);
+            }
+        });
+        benchmarks.add(new Benchmark("compact", "IntBuffer.compact() swapped") {
+            IntBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(TestData.swapped()).asIntBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                IntBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.clear();
+                    b.position(SIZE / 16);
+                    b.compact();
+                }
+                return b.get(0);
+            }
+        });
+    }
+}
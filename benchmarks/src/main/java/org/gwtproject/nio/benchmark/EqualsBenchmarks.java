@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.List;
+
+/** Compares and hashes equal buffers of {@link TestData#SIZE} bytes, one call per operation. */
+final class EqualsBenchmarks {
+
+    private EqualsBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        benchmarks.add(new Benchmark("equals", "ByteBuffer.equals(Object)") {
+            ByteBuffer buffer;
+            ByteBuffer other;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                other = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                int count = 0;
+                for (int i = 0; i < ops; i++) {
+                    if (buffer.equals(other)) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "ByteBuffer.hashCode()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += buffer.hashCode();
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "ByteBuffer.compareTo(ByteBuffer)") {
+            ByteBuffer buffer;
+            ByteBuffer other;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                other = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += buffer.compareTo(other);
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "FloatBuffer.equals(Object)") {
+            FloatBuffer buffer;
+            FloatBuffer other;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+                other = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                int count = 0;
+                for (int i = 0; i < ops; i++) {
+                    if (buffer.equals(other)) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "FloatBuffer.hashCode()") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += buffer.hashCode();
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "IntBuffer.equals(Object) swapped") {
+            IntBuffer buffer;
+            IntBuffer other;
+
+            @Override
+            void setUp() {
+                // the same values in the other byte order, compared element by element
+                buffer = TestData.bytes(TestData.swapped()).asIntBuffer();
+                other = TestData.bytes(ByteOrder.nativeOrder()).asIntBuffer();
+                for (int i = 0; i < other.capacity(); i++) {
+                    other.put(i, buffer.get(i));
+                }
+            }
+
+            @Override
+            double run(int ops) {
+                int count = 0;
+                for (int i = 0; i < ops; i++) {
+                    if (buffer.equals(other)) {
+                        count++;
+                    }
+                }
+                return count;
+            }
+        });
+        benchmarks.add(new Benchmark("equals", "LongBuffer.hashCode()") {
+            LongBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += buffer.hashCode();
+                }
+                return sum;
+            }
+        });
+    }
+}
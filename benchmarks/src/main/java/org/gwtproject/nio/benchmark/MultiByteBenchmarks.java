@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import org.gwtproject.nio.Numbers;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.List;
+
+import static org.gwtproject.nio.benchmark.TestData.SIZE;
+
+/** Reads and writes multi-byte values of a byte buffer, one value per operation. */
+final class MultiByteBenchmarks {
+
+    private MultiByteBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        for (final ByteOrder order : new ByteOrder[] {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+            final String suffix = order == ByteOrder.BIG_ENDIAN ? " BE" : " LE";
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getShort(int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    int sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += b.getShort((i << 1) & (SIZE - 2));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getInt(int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    int sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += b.getInt((i << 2) & (SIZE - 4));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.putInt(int,int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    for (int i = 0; i < ops; i++) {
+                        b.putInt((i << 2) & (SIZE - 4), i);
+                    }
+                    return b.getInt(0);
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getLong(int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    long sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += b.getLong((i << 3) & (SIZE - 8));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getLong(int) ids" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                    for (int i = 0; i < SIZE; i += 8) {
+                        buffer.putLong(i, 1_000_000_000_000L + i);
+                    }
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    long sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum ^= b.getLong((i << 3) & (SIZE - 8));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "Numbers.getLongLow(ByteBuffer,int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    int sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += Numbers.getLongLow(b, (i << 3) & (SIZE - 8));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.putLong(int,long)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    for (int i = 0; i < ops; i++) {
+                        b.putLong((i << 3) & (SIZE - 8), i);
+                    }
+                    return b.getInt(0);
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getFloat(int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    float sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += b.getFloat((i << 2) & (SIZE - 4));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getDouble(int)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    double sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        sum += b.getDouble((i << 3) & (SIZE - 8));
+                    }
+                    return sum;
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.putDouble(int,double)" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    for (int i = 0; i < ops; i++) {
+                        b.putDouble((i << 3) & (SIZE - 8), i);
+                    }
+                    return b.getInt(0);
+                }
+            });
+            benchmarks.add(new Benchmark("multibyte", "ByteBuffer.getInt()" + suffix) {
+                ByteBuffer buffer;
+
+                @Override
+                void setUp() {
+                    buffer = TestData.bytes(order);
+                }
+
+                @Override
+                double run(int ops) {
+                    ByteBuffer b = buffer;
+                    int sum = 0;
+                    for (int i = 0; i < ops; i++) {
+                        if (b.remaining() < 4) {
+                            b.clear();
+                        }
+                        sum += b.getInt();
+                    }
+                    return sum;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
+import java.util.List;
+
+import static org.gwtproject.nio.benchmark.TestData.SIZE;
+
+/** Reads and writes single elements, one element per operation. */
+final class ScalarBenchmarks {
+
+    private ScalarBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        benchmarks.add(new Benchmark("scalar", "ByteBuffer.get(int)") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "ByteBuffer.put(int,byte)") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.put(i & (SIZE - 1), (byte) i);
+                }
+                return b.get(0);
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "ByteBuffer.get()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    if (!b.hasRemaining()) {
+                        b.clear();
+                    }
+                    sum += b.get();
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "ByteBuffer.put(byte)") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                ByteBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    if (!b.hasRemaining()) {
+                        b.clear();
+                    }
+                    b.put((byte) i);
+                }
+                return b.position();
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "ShortBuffer.get(int)") {
+            ShortBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asShortBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                ShortBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 2 - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "IntBuffer.get(int)") {
+            IntBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                IntBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 4 - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "IntBuffer.get(int) swapped") {
+            IntBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(TestData.swapped()).asIntBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                IntBuffer b = buffer;
+                int sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 4 - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "IntBuffer.put(int,int)") {
+            IntBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                IntBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.put(i & (SIZE / 4 - 1), i);
+                }
+                return b.get(0);
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "FloatBuffer.get(int)") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                FloatBuffer b = buffer;
+                float sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 4 - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "FloatBuffer.put(int,float)") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                FloatBuffer b = buffer;
+                for (int i = 0; i < ops; i++) {
+                    b.put(i & (SIZE / 4 - 1), i);
+                }
+                return b.get(0);
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "DoubleBuffer.get(int)") {
+            DoubleBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asDoubleBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                DoubleBuffer b = buffer;
+                double sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 8 - 1));
+                }
+                return sum;
+            }
+        });
+        benchmarks.add(new Benchmark("scalar", "LongBuffer.get(int)") {
+            LongBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asLongBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                LongBuffer b = buffer;
+                long sum = 0;
+                for (int i = 0; i < ops; i++) {
+                    sum += b.get(i & (SIZE / 8 - 1));
+                }
+                return sum;
+            }
+        });
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/** Creates buffers filled with the same pseudo-random bytes on every run. */
+final class TestData {
+
+    /** The number of bytes most benchmarks work on, a power of two. */
+    static final int SIZE = 4096;
+
+    private TestData() {
+    }
+
+    /** Returns a big-endian buffer of {@link #SIZE} bytes. */
+    static ByteBuffer bytes() {
+        return bytes(SIZE);
+    }
+
+    static ByteBuffer bytes(int size) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(size);
+        int seed = 0x2545F491;
+        for (int i = 0; i < size; i++) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            buffer.put(i, (byte) seed);
+        }
+        return buffer;
+    }
+
+    /** Returns a buffer of {@link #SIZE} bytes in the given order. */
+    static ByteBuffer bytes(ByteOrder order) {
+        return bytes().order(order);
+    }
+
+    /** Returns the byte order that is not native, which makes views go through a DataView. */
+    static ByteOrder swapped() {
+        return ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN;
+    }
+}
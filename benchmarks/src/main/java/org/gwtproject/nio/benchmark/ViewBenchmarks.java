@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.benchmark;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.List;
+
+/** Creates slices, duplicates and views, one per operation. */
+final class ViewBenchmarks {
+
+    private ViewBenchmarks() {
+    }
+
+    static void addTo(List<Benchmark> benchmarks) {
+        benchmarks.add(new Benchmark("view", "ByteBuffer.slice()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+                buffer.position(16);
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.slice();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "ByteBuffer.duplicate()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.duplicate();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "ByteBuffer.asReadOnlyBuffer()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes();
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.asReadOnlyBuffer();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "ByteBuffer.asFloatBuffer()") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder());
+                buffer.position(16);
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.asFloatBuffer();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "ByteBuffer.asIntBuffer() swapped") {
+            ByteBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(TestData.swapped());
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.asIntBuffer();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "FloatBuffer.slice()") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+                buffer.position(4);
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.slice();
+                }
+                return last.capacity();
+            }
+        });
+        benchmarks.add(new Benchmark("view", "FloatBuffer.duplicate()") {
+            FloatBuffer buffer;
+
+            @Override
+            void setUp() {
+                buffer = TestData.bytes(ByteOrder.nativeOrder()).asFloatBuffer();
+            }
+
+            @Override
+            double run(int ops) {
+                Buffer last = null;
+                for (int i = 0; i < ops; i++) {
+                    last = buffer.duplicate();
+                }
+                return last.capacity();
+            }
+        });
+    }
+}
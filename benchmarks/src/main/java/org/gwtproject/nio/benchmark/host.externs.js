@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/**
+ * @fileoverview The object run.js provides to the compiled benchmarks.
+ * @externs
+ */
+
+/** @const */
+var benchmarkHost = {};
+
+/** @return {number} */
+benchmarkHost.now = function() {};
+
+/** @return {string} */
+benchmarkHost.filter = function() {};
+
+benchmarkHost.startAllocations = function() {};
+
+/** @return {number} */
+benchmarkHost.stopAllocations = function() {};
+
+/** @return {number} */
+benchmarkHost.gcCount = function() {};
+
+/** @param {string} line */
+benchmarkHost.log = function(line) {};
+
+/** @param {string} json */
+benchmarkHost.report = function(json) {};
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+'use strict';
+
+// Compares two result files written by run.js.
+//
+//     node compare.js <before.json> <after.json>
+
+const fs = require('fs');
+
+const [beforeFile, afterFile] = process.argv.slice(2);
+if (!beforeFile || !afterFile) {
+  console.error('usage: node compare.js <before.json> <after.json>');
+  process.exit(2);
+}
+
+const read = (file) => JSON.parse(fs.readFileSync(file, 'utf8'));
+const before = new Map(read(beforeFile).benchmarks.map((b) => [b.name, b]));
+const after = read(afterFile).benchmarks;
+
+const pad = (s, n) => String(s).padEnd(n);
+const num = (x, digits) => (x === null || isNaN(x)) ? '-' : x.toFixed(digits);
+
+console.log(pad('benchmark', 44) + pad('before ops/s', 16) + pad('after ops/s', 16)
+    + pad('change', 10) + 'bytes/op');
+for (const b of after) {
+  const a = before.get(b.name);
+  if (!a) {
+    continue;
+  }
+  const change = (b.opsPerSecond / a.opsPerSecond - 1) * 100;
+  console.log(pad(b.name, 44) + pad(num(a.opsPerSecond, 0), 16) + pad(num(b.opsPerSecond, 0), 16)
+      + pad((change >= 0 ? '+' : '') + num(change, 1) + '%', 10)
+      + num(a.bytesPerOp, 1) + ' -> ' + num(b.bytesPerOp, 1));
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+'use strict';
+
+// Runs the benchmarks compiled by J2CL and writes their results as JSON.
+//
+//     node run.js <benchmarks.js> <results.json> [filter]
+//
+// Only benchmarks whose name contains the filter are run.
+
+const fs = require('fs');
+const v8 = require('v8');
+const vm = require('vm');
+
+const [script, output, filter] = process.argv.slice(2);
+if (!script || !output) {
+  console.error('usage: node run.js <benchmarks.js> <results.json> [filter]');
+  process.exit(2);
+}
+
+let profiler = null;
+let heapAtStart = 0;
+let gcs = 0;
+
+globalThis.benchmarkHost = {
+  now: () => performance.now(),
+
+  filter: () => filter || '',
+
+  // The bytes allocated on the JS heap are the growth of the used heap plus whatever the
+  // collections in between freed. ArrayBuffer contents live outside the heap and are not counted.
+  startAllocations() {
+    if (v8.GCProfiler) {
+      profiler = new v8.GCProfiler();
+      profiler.start();
+    }
+    heapAtStart = v8.getHeapStatistics().used_heap_size;
+  },
+
+  stopAllocations() {
+    const heapAtEnd = v8.getHeapStatistics().used_heap_size;
+    if (!profiler) {
+      gcs = NaN;
+      return NaN;
+    }
+    const collections = profiler.stop().statistics;
+    profiler = null;
+    let freed = 0;
+    for (const gc of collections) {
+      freed += gc.beforeGC.heapStatistics.usedHeapSize - gc.afterGC.heapStatistics.usedHeapSize;
+    }
+    gcs = collections.length;
+    return heapAtEnd - heapAtStart + freed;
+  },
+
+  gcCount: () => gcs,
+
+  log: (line) => console.log(line),
+
+  report(json) {
+    const results = JSON.parse(json);
+    results.node = process.version;
+    results.date = new Date().toISOString();
+    fs.writeFileSync(output, JSON.stringify(results, null, 2) + '\n');
+    console.log('Results written to ' + output);
+  },
+};
+
+// as a classic script, like in a browser, so that the compiled code sees the global object as this
+vm.runInThisContext(fs.readFileSync(script, 'utf8'), {filename: script});
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * JVM stand-in for the JavaScript {@code ArrayBuffer}, a fixed number of zeroed bytes on the
+ * Java heap. Typed arrays and data views read and write them in little-endian order, like
+ * JavaScript does on every platform that runs it today.
+ */
+public class ArrayBuffer {
+    public int byteLength;
+
+    final byte[] bytes;
+
+    /** The views over this buffer, which become empty when it is detached. */
+    final Set<ArrayBufferView> views = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public ArrayBuffer(int length) {
+        this(new byte[checkLength(length)]);
+    }
+
+    private ArrayBuffer(byte[] bytes) {
+        this.bytes = bytes;
+        this.byteLength = bytes.length;
+    }
+
+    private static int checkLength(int length) {
+        if (length < 0) {
+            throw new RangeError("Invalid array buffer length " + length);
+        }
+        return length;
+    }
+
+    public static boolean isView(Object value) {
+        return value instanceof ArrayBufferView;
+    }
+
+    public ArrayBuffer slice(int begin) {
+        return slice(begin, byteLength);
+    }
+
+    public ArrayBuffer slice(int begin, int end) {
+        int from = TypedArray.clamp(begin, byteLength);
+        int to = TypedArray.clamp(end, byteLength);
+        ArrayBuffer copy = new ArrayBuffer(Math.max(0, to - from));
+        System.arraycopy(bytes, from, copy.bytes, 0, copy.byteLength);
+        return copy;
+    }
+
+    /**
+     * Stands in for posting this buffer to a worker as a transferable, which JavaScript code does
+     * with {@code postMessage}. Returns what the receiving side gets, a new buffer over the same
+     * bytes, and detaches this buffer, which leaves it and every view over it empty.
+     */
+    public ArrayBuffer detach() {
+        if (this instanceof SharedArrayBuffer) {
+            throw new IllegalStateException("A SharedArrayBuffer cannot be detached");
+        }
+        ArrayBuffer received = new ArrayBuffer(bytes);
+        byteLength = 0;
+        for (ArrayBufferView view : views) {
+            view.detach();
+        }
+        views.clear();
+        return received;
+    }
+}
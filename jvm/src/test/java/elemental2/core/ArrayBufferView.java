@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+/** JVM stand-in for the JavaScript {@code ArrayBufferView}, a window on an {@link ArrayBuffer}. */
+public class ArrayBufferView {
+    public ArrayBuffer buffer;
+    public int byteLength;
+    public int byteOffset;
+
+    ArrayBufferView(ArrayBuffer buffer, int byteOffset, int byteLength) {
+        if (byteOffset < 0 || byteLength < 0 || byteOffset > buffer.byteLength - byteLength) {
+            throw new RangeError("Offset " + byteOffset + " and length " + byteLength
+                + " are out of the bounds of a buffer of " + buffer.byteLength + " bytes");
+        }
+        this.buffer = buffer;
+        this.byteOffset = byteOffset;
+        this.byteLength = byteLength;
+        buffer.views.add(this);
+    }
+
+    /** Empties this view once its buffer has been detached, see {@link ArrayBuffer#detach()}. */
+    void detach() {
+        byteOffset = 0;
+        byteLength = 0;
+    }
+}
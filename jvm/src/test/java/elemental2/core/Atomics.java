@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+/**
+ * JVM stand-in for the JavaScript {@code Atomics}. Every operation holds the lock of the array's
+ * buffer, which makes the operations atomic with respect to each other, and their effects
+ * visible to the next operation on the same buffer in any thread.
+ */
+public class Atomics {
+
+    private Atomics() {
+    }
+
+    public static double load(TypedArray array, int index) {
+        synchronized (array.buffer) {
+            return array.getAt(index);
+        }
+    }
+
+    public static double store(TypedArray array, int index, double value) {
+        synchronized (array.buffer) {
+            array.setAt(index, value);
+            return value;
+        }
+    }
+
+    public static double add(TypedArray array, int index, double value) {
+        synchronized (array.buffer) {
+            double old = array.getAt(index);
+            array.setAt(index, old + value);
+            return old;
+        }
+    }
+
+    public static double compareExchange(TypedArray array, int index, double expectedValue, double replacementValue) {
+        synchronized (array.buffer) {
+            double old = array.getAt(index);
+            if (old == expectedValue) {
+                array.setAt(index, replacementValue);
+            }
+            return old;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * JVM stand-in for the JavaScript {@code DataView}. Like in JavaScript, values are big-endian
+ * unless {@code littleEndian} is true.
+ */
+public class DataView extends ArrayBufferView {
+    private static final VarHandle SHORT_BE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle SHORT_LE = MethodHandles.byteArrayViewVarHandle(short[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle INT_BE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT_LE = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle FLOAT_BE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle FLOAT_LE = MethodHandles.byteArrayViewVarHandle(float[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final VarHandle DOUBLE_BE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle DOUBLE_LE = MethodHandles.byteArrayViewVarHandle(double[].class, ByteOrder.LITTLE_ENDIAN);
+
+    public DataView(ArrayBuffer buffer) {
+        this(buffer, 0);
+    }
+
+    public DataView(ArrayBuffer buffer, int byteOffset) {
+        this(buffer, byteOffset, buffer.byteLength - byteOffset);
+    }
+
+    public DataView(ArrayBuffer buffer, int byteOffset, int byteLength) {
+        super(buffer, byteOffset, byteLength);
+    }
+
+    /** Returns the index in {@code buffer.bytes} of a value of the given size at the given offset. */
+    private int at(int offset, int size) {
+        if (offset < 0 || offset > byteLength - size) {
+            throw new RangeError("Offset " + offset + " is outside the bounds of the DataView");
+        }
+        return byteOffset + offset;
+    }
+
+    public int getInt8(int byteOffset) {
+        return buffer.bytes[at(byteOffset, 1)];
+    }
+
+    public int getUint8(int byteOffset) {
+        return buffer.bytes[at(byteOffset, 1)] & 0xFF;
+    }
+
+    public void setInt8(int byteOffset, double value) {
+        buffer.bytes[at(byteOffset, 1)] = (byte) TypedArray.toInt32(value);
+    }
+
+    public void setUint8(int byteOffset, double value) {
+        setInt8(byteOffset, value);
+    }
+
+    public int getInt16(int byteOffset) {
+        return getInt16(byteOffset, false);
+    }
+
+    public int getInt16(int byteOffset, boolean littleEndian) {
+        return (short) (littleEndian ? SHORT_LE : SHORT_BE).get(buffer.bytes, at(byteOffset, 2));
+    }
+
+    public void setInt16(int byteOffset, double value) {
+        setInt16(byteOffset, value, false);
+    }
+
+    public void setInt16(int byteOffset, double value, boolean littleEndian) {
+        (littleEndian ? SHORT_LE : SHORT_BE).set(buffer.bytes, at(byteOffset, 2), (short) TypedArray.toInt32(value));
+    }
+
+    public int getUint16(int byteOffset) {
+        return getUint16(byteOffset, false);
+    }
+
+    public int getUint16(int byteOffset, boolean littleEndian) {
+        return (char) (short) (littleEndian ? SHORT_LE : SHORT_BE).get(buffer.bytes, at(byteOffset, 2));
+    }
+
+    public void setUint16(int byteOffset, double value) {
+        setUint16(byteOffset, value, false);
+    }
+
+    public void setUint16(int byteOffset, double value, boolean littleEndian) {
+        (littleEndian ? SHORT_LE : SHORT_BE).set(buffer.bytes, at(byteOffset, 2), (short) TypedArray.toInt32(value));
+    }
+
+    public int getInt32(int byteOffset) {
+        return getInt32(byteOffset, false);
+    }
+
+    public int getInt32(int byteOffset, boolean littleEndian) {
+        return (int) (littleEndian ? INT_LE : INT_BE).get(buffer.bytes, at(byteOffset, 4));
+    }
+
+    public void setInt32(int byteOffset, double value) {
+        setInt32(byteOffset, value, false);
+    }
+
+    public void setInt32(int byteOffset, double value, boolean littleEndian) {
+        (littleEndian ? INT_LE : INT_BE).set(buffer.bytes, at(byteOffset, 4), TypedArray.toInt32(value));
+    }
+
+    public double getFloat32(int byteOffset) {
+        return getFloat32(byteOffset, false);
+    }
+
+    public double getFloat32(int byteOffset, boolean littleEndian) {
+        return (float) (littleEndian ? FLOAT_LE : FLOAT_BE).get(buffer.bytes, at(byteOffset, 4));
+    }
+
+    public void setFloat32(int byteOffset, double value) {
+        setFloat32(byteOffset, value, false);
+    }
+
+    public void setFloat32(int byteOffset, double value, boolean littleEndian) {
+        (littleEndian ? FLOAT_LE : FLOAT_BE).set(buffer.bytes, at(byteOffset, 4), (float) value);
+    }
+
+    public double getFloat64(int byteOffset) {
+        return getFloat64(byteOffset, false);
+    }
+
+    public double getFloat64(int byteOffset, boolean littleEndian) {
+        return (double) (littleEndian ? DOUBLE_LE : DOUBLE_BE).get(buffer.bytes, at(byteOffset, 8));
+    }
+
+    public void setFloat64(int byteOffset, double value) {
+        setFloat64(byteOffset, value, false);
+    }
+
+    public void setFloat64(int byteOffset, double value, boolean littleEndian) {
+        (littleEndian ? DOUBLE_LE : DOUBLE_BE).set(buffer.bytes, at(byteOffset, 8), value);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+/**
+ * JVM stand-in for the JavaScript {@code SharedArrayBuffer}. It is an {@link ArrayBuffer} here, so
+ * the casts between the two that the emulation does through {@code Js.uncheckedCast} hold on the
+ * JVM as well.
+ */
+public class SharedArrayBuffer extends ArrayBuffer {
+
+    public SharedArrayBuffer(int length) {
+        super(length);
+    }
+}
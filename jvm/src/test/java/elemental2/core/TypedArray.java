@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+/**
+ * JVM stand-in for the JavaScript typed arrays. Elements are converted like JavaScript converts
+ * them, with one difference: reading or writing outside the array throws
+ * {@link IndexOutOfBoundsException} instead of reading {@code undefined} or doing nothing, so that
+ * such accesses surface as bugs when the emulation runs on the JVM.
+ */
+public abstract class TypedArray extends ArrayBufferView {
+    public int length;
+
+    private final int shift;
+
+    TypedArray(ArrayBuffer buffer, int byteOffset, int length, int shift) {
+        super(buffer, aligned(byteOffset, shift), checkLength(length, shift) << shift);
+        this.length = length;
+        this.shift = shift;
+    }
+
+    @Override
+    void detach() {
+        super.detach();
+        length = 0;
+    }
+
+    /** Returns the number of elements from the given offset to the end of the buffer. */
+    static int remaining(ArrayBuffer buffer, int byteOffset, int shift) {
+        int bytes = buffer.byteLength - byteOffset;
+        if (bytes < 0 || (bytes & ((1 << shift) - 1)) != 0) {
+            throw new RangeError("Buffer length minus the offset " + byteOffset
+                + " is not a multiple of " + (1 << shift));
+        }
+        return bytes >> shift;
+    }
+
+    private static int aligned(int byteOffset, int shift) {
+        if ((byteOffset & ((1 << shift) - 1)) != 0) {
+            throw new RangeError("Start offset " + byteOffset + " is not a multiple of " + (1 << shift));
+        }
+        return byteOffset;
+    }
+
+    private static int checkLength(int length, int shift) {
+        if (length < 0 || length > (Integer.MAX_VALUE >> shift)) {
+            throw new RangeError("Invalid typed array length " + length);
+        }
+        return length;
+    }
+
+    public abstract double getAt(int index);
+
+    public abstract void setAt(int index, double value);
+
+    /** Returns the byte offset of the element at the given index in {@code buffer.bytes}. */
+    final int at(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " is out of the bounds of a typed array of length " + length);
+        }
+        return byteOffset + (index << shift);
+    }
+
+    public void set(Object source) {
+        set(source, 0);
+    }
+
+    /**
+     * Copies the elements of a typed array, or of a Java primitive array which stands in for a
+     * JavaScript array of numbers, into this array starting at the given index.
+     */
+    public void set(Object source, int offset) {
+        if (source instanceof TypedArray) {
+            setTypedArray((TypedArray) source, offset);
+        } else if (source instanceof byte[]) {
+            byte[] array = (byte[]) source;
+            checkTarget(offset, array.length);
+            if (this instanceof Int8Array) {
+                System.arraycopy(array, 0, buffer.bytes, byteOffset + offset, array.length);
+            } else {
+                for (int i = 0; i < array.length; i++) {
+                    setAt(offset + i, array[i]);
+                }
+            }
+        } else if (source instanceof short[]) {
+            short[] array = (short[]) source;
+            checkTarget(offset, array.length);
+            for (int i = 0; i < array.length; i++) {
+                setAt(offset + i, array[i]);
+            }
+        } else if (source instanceof char[]) {
+            char[] array = (char[]) source;
+            checkTarget(offset, array.length);
+            for (int i = 0; i < array.length; i++) {
+                setAt(offset + i, array[i]);
+            }
+        } else if (source instanceof int[]) {
+            int[] array = (int[]) source;
+            checkTarget(offset, array.length);
+            for (int i = 0; i < array.length; i++) {
+                setAt(offset + i, array[i]);
+            }
+        } else if (source instanceof float[]) {
+            float[] array = (float[]) source;
+            checkTarget(offset, array.length);
+            for (int i = 0; i < array.length; i++) {
+                setAt(offset + i, array[i]);
+            }
+        } else if (source instanceof double[]) {
+            double[] array = (double[]) source;
+            checkTarget(offset, array.length);
+            for (int i = 0; i < array.length; i++) {
+                setAt(offset + i, array[i]);
+            }
+        } else {
+            throw new IllegalArgumentException("Cannot set the elements of a typed array from " + source);
+        }
+    }
+
+    private void setTypedArray(TypedArray source, int offset) {
+        int count = source.length;
+        checkTarget(offset, count);
+        if (source.getClass() == getClass()) {
+            // same element type, the bytes are the values; arraycopy copes with overlapping ranges
+            System.arraycopy(source.buffer.bytes, source.byteOffset, buffer.bytes, byteOffset + (offset << shift), count << shift);
+        } else if (source.buffer == buffer) {
+            // converting in place could overwrite source elements before they are read
+            double[] values = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = source.getAt(i);
+            }
+            set(values, offset);
+        } else {
+            for (int i = 0; i < count; i++) {
+                setAt(offset + i, source.getAt(i));
+            }
+        }
+    }
+
+    private void checkTarget(int offset, int count) {
+        if (offset < 0 || offset > length - count) {
+            throw new RangeError("Source of " + count + " elements at offset " + offset
+                + " is out of the bounds of a typed array of length " + length);
+        }
+    }
+
+    public <T> T subarray(int begin) {
+        return subarray(begin, length);
+    }
+
+    /** Returns a typed array of the same type over the elements from begin to end, sharing the memory. */
+    @SuppressWarnings("unchecked")
+    public <T> T subarray(int begin, int end) {
+        int from = clamp(begin, length);
+        return (T) create(buffer, byteOffset + (from << shift), Math.max(clamp(end, length) - from, 0));
+    }
+
+    abstract TypedArray create(ArrayBuffer buffer, int byteOffset, int length);
+
+    public <T> T copyWithin(int target, int start) {
+        return copyWithin(target, start, length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T copyWithin(int target, int start, int end) {
+        int to = clamp(target, length);
+        int from = clamp(start, length);
+        int count = Math.min(clamp(end, length) - from, length - to);
+        if (count > 0) {
+            System.arraycopy(buffer.bytes, byteOffset + (from << shift), buffer.bytes, byteOffset + (to << shift), count << shift);
+        }
+        return (T) this;
+    }
+
+    public <T> T fill(double value) {
+        return fill(value, 0, length);
+    }
+
+    public <T> T fill(double value, int start) {
+        return fill(value, start, length);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T fill(double value, int start, int end) {
+        for (int i = clamp(start, length), n = clamp(end, length); i < n; i++) {
+            setAt(i, value);
+        }
+        return (T) this;
+    }
+
+    /** Resolves a relative index like the typed array methods do, negative ones count from the end. */
+    static int clamp(int index, int length) {
+        return index < 0 ? Math.max(length + index, 0) : Math.min(index, length);
+    }
+
+    /** Converts a number to a 32-bit integer the way JavaScript's {@code ToInt32} does. */
+    static int toInt32(double value) {
+        int i = (int) value;
+        if (i == value) {
+            return i;
+        }
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return 0;
+        }
+        return (int) (long) (value % 4294967296.0);
+    }
+}
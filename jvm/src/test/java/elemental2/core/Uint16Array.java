@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/** JVM stand-in for the JavaScript {@code Uint16Array}. */
+public class Uint16Array extends TypedArray {
+    public static final double BYTES_PER_ELEMENT = 2;
+
+    private static final VarHandle ELEMENTS = MethodHandles.byteArrayViewVarHandle(char[].class, ByteOrder.LITTLE_ENDIAN);
+
+    public Uint16Array(int length) {
+        this(new ArrayBuffer(length << 1), 0, length);
+    }
+
+    public Uint16Array(ArrayBuffer buffer) {
+        this(buffer, 0);
+    }
+
+    public Uint16Array(ArrayBuffer buffer, int byteOffset) {
+        this(buffer, byteOffset, remaining(buffer, byteOffset, 1));
+    }
+
+    public Uint16Array(ArrayBuffer buffer, int byteOffset, int length) {
+        super(buffer, byteOffset, length, 1);
+    }
+
+    @Override
+    Uint16Array create(ArrayBuffer buffer, int byteOffset, int length) {
+        return new Uint16Array(buffer, byteOffset, length);
+    }
+
+    @Override
+    public double getAt(int index) {
+        return (char) ELEMENTS.get(buffer.bytes, at(index));
+    }
+
+    @Override
+    public void setAt(int index, double value) {
+        ELEMENTS.set(buffer.bytes, at(index), (char) toInt32(value));
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package elemental2.core;
+
+/** JVM stand-in for the JavaScript {@code Uint8Array}. */
+public class Uint8Array extends TypedArray {
+    public static final double BYTES_PER_ELEMENT = 1;
+
+    public Uint8Array(int length) {
+        this(new ArrayBuffer(length), 0, length);
+    }
+
+    public Uint8Array(ArrayBuffer buffer) {
+        this(buffer, 0);
+    }
+
+    public Uint8Array(ArrayBuffer buffer, int byteOffset) {
+        this(buffer, byteOffset, remaining(buffer, byteOffset, 0));
+    }
+
+    public Uint8Array(ArrayBuffer buffer, int byteOffset, int length) {
+        super(buffer, byteOffset, length, 0);
+    }
+
+    @Override
+    Uint8Array create(ArrayBuffer buffer, int byteOffset, int length) {
+        return new Uint8Array(buffer, byteOffset, length);
+    }
+
+    @Override
+    public double getAt(int index) {
+        return buffer.bytes[at(index)] & 0xFF;
+    }
+
+    @Override
+    public void setAt(int index, double value) {
+        buffer.bytes[at(index)] = (byte) toInt32(value);
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package jsinterop.base;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * JVM stand-in for the jsinterop-base {@code Js} utilities the emulation uses. There are no
+ * JavaScript functions on the JVM, so feature detection through {@link #typeof(Object)} finds
+ * none and the emulation takes its fallback paths.
+ */
+public final class Js {
+
+    /** The properties of objects that are not property maps themselves. */
+    private static final Map<Object, JsPropertyMap<?>> PROPERTIES = new WeakHashMap<>();
+
+    private Js() {
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> T uncheckedCast(Object obj) {
+        return (T) obj;
+    }
+
+    public static String typeof(Object obj) {
+        if (obj == null) {
+            return "undefined";
+        } else if (obj instanceof Boolean) {
+            return "boolean";
+        } else if (obj instanceof Number) {
+            return "number";
+        } else if (obj instanceof String) {
+            return "string";
+        }
+        return "object";
+    }
+
+    /**
+     * Returns the map itself for maps created by {@link JsPropertyMap#of}, and otherwise the
+     * properties set on the object through this method, which start out empty.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> JsPropertyMap<V> asPropertyMap(Object obj) {
+        if (obj instanceof JsPropertyMap) {
+            return (JsPropertyMap<V>) obj;
+        }
+        synchronized (PROPERTIES) {
+            return (JsPropertyMap<V>) PROPERTIES.computeIfAbsent(obj, o -> new PropertyMap<>());
+        }
+    }
+
+    public static boolean isTruthy(Object obj) {
+        if (obj == null) {
+            return false;
+        } else if (obj instanceof Boolean) {
+            return (Boolean) obj;
+        } else if (obj instanceof Number) {
+            double value = ((Number) obj).doubleValue();
+            return value != 0 && !Double.isNaN(value);
+        } else if (obj instanceof String) {
+            return !((String) obj).isEmpty();
+        }
+        return true;
+    }
+
+    public static int asInt(Object obj) {
+        return ((Number) obj).intValue();
+    }
+
+    public static <T> T undefined() {
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package jsinterop.base;
+
+/** JVM stand-in for the jsinterop-base {@code JsPropertyMap}, backed by a hash map. */
+public interface JsPropertyMap<V> {
+
+    static <V> JsPropertyMap<V> of() {
+        return new PropertyMap<V>();
+    }
+
+    static <V> JsPropertyMap<V> of(String k, V v) {
+        JsPropertyMap<V> map = of();
+        map.set(k, v);
+        return map;
+    }
+
+    static <V> JsPropertyMap<V> of(String k1, V v1, String k2, V v2) {
+        JsPropertyMap<V> map = of(k1, v1);
+        map.set(k2, v2);
+        return map;
+    }
+
+    V get(String propertyName);
+
+    void set(String propertyName, V value);
+
+    boolean has(String propertyName);
+
+    void delete(String propertyName);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package jsinterop.base;
+
+import java.util.HashMap;
+
+final class PropertyMap<V> extends HashMap<String, V> implements JsPropertyMap<V> {
+
+    @Override
+    public V get(String propertyName) {
+        return super.get(propertyName);
+    }
+
+    @Override
+    public void set(String propertyName, V value) {
+        put(propertyName, value);
+    }
+
+    @Override
+    public boolean has(String propertyName) {
+        return containsKey(propertyName);
+    }
+
+    @Override
+    public void delete(String propertyName) {
+        remove(propertyName);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.ByteOrder;
+import org.gwtproject.nio.emul.ReadOnlyBufferException;
+import org.junit.Test;
+
+public class AtomicAccessTest {
+
+    private static final ByteOrder[] ORDERS = {ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN};
+
+    @Test
+    public void intsUseTheBufferByteOrder() {
+        for (ByteOrder order : ORDERS) {
+            ByteBuffer buffer = TypedArrayHelper.allocateShared(16).order(order);
+            AtomicAccess atomics = AtomicAccess.of(buffer);
+
+            atomics.storeInt(4, 0x01020304);
+            assertEquals(order.toString(), 0x01020304, buffer.getInt(4));
+            buffer.putInt(8, 0xCAFEBABE);
+            assertEquals(order.toString(), 0xCAFEBABE, atomics.loadInt(8));
+
+            assertFalse(atomics.compareAndSetInt(4, 0x04030201, 7));
+            assertEquals(order.toString(), 0x01020304, buffer.getInt(4));
+            assertTrue(atomics.compareAndSetInt(4, 0x01020304, 0x7FFFFFFF));
+            assertEquals(order.toString(), 0x7FFFFFFF, buffer.getInt(4));
+
+            assertEquals(order.toString(), 0x7FFFFFFF, atomics.getAndAddInt(4, 1));
+            assertEquals(order.toString(), Integer.MIN_VALUE, buffer.getInt(4));
+            assertEquals(order.toString(), Integer.MIN_VALUE, atomics.getAndAddInt(4, -1));
+            assertEquals(order.toString(), 0x7FFFFFFF, atomics.loadInt(4));
+        }
+    }
+
+    @Test
+    public void shortsUseTheBufferByteOrder() {
+        for (ByteOrder order : ORDERS) {
+            ByteBuffer buffer = ByteBuffer.allocate(8).order(order);
+            AtomicAccess atomics = AtomicAccess.of(buffer);
+
+            atomics.storeShort(2, (short) 0x0102);
+            assertEquals(order.toString(), 0x0102, buffer.getShort(2));
+            buffer.putShort(6, (short) 0xBEEF);
+            assertEquals(order.toString(), (short) 0xBEEF, atomics.loadShort(6));
+
+            assertFalse(atomics.compareAndSetShort(2, (short) 0x0201, (short) 7));
+            assertTrue(atomics.compareAndSetShort(2, (short) 0x0102, Short.MAX_VALUE));
+            assertEquals(order.toString(), Short.MAX_VALUE, buffer.getShort(2));
+            assertTrue(atomics.compareAndSetShort(6, (short) 0xBEEF, (short) -1));
+            assertEquals(order.toString(), -1, buffer.getShort(6));
+
+            assertEquals(order.toString(), Short.MAX_VALUE, atomics.getAndAddShort(2, (short) 1));
+            assertEquals(order.toString(), Short.MIN_VALUE, buffer.getShort(2));
+            assertEquals(order.toString(), -1, atomics.getAndAddShort(6, (short) 2));
+            assertEquals(order.toString(), 1, atomics.loadShort(6));
+        }
+    }
+
+    @Test
+    public void indicesCountFromTheStartOfASlice() {
+        for (ByteOrder order : ORDERS) {
+            ByteBuffer whole = ByteBuffer.allocate(16).order(order);
+            whole.position(4);
+            ByteBuffer slice = whole.slice().order(order);
+            AtomicAccess atomics = AtomicAccess.of(slice);
+            atomics.storeInt(0, 42);
+            atomics.storeShort(6, (short) 43);
+            assertEquals(42, whole.getInt(4));
+            assertEquals(43, whole.getShort(10));
+        }
+    }
+
+    @Test
+    public void rejectsMisalignedIndices() {
+        ByteBuffer whole = ByteBuffer.allocate(16);
+        whole.position(1);
+        AtomicAccess misaligned = AtomicAccess.of(whole.slice());
+        assertThrows(IllegalStateException.class, () -> misaligned.loadInt(0));
+        assertThrows(IllegalStateException.class, () -> misaligned.storeInt(1, 1));
+        assertThrows(IllegalStateException.class, () -> misaligned.compareAndSetInt(5, 0, 1));
+        assertThrows(IllegalStateException.class, () -> misaligned.getAndAddInt(2, 1));
+        assertThrows(IllegalStateException.class, () -> misaligned.loadShort(0));
+        assertThrows(IllegalStateException.class, () -> misaligned.getAndAddShort(4, (short) 1));
+        misaligned.storeInt(3, 5);
+        misaligned.storeShort(1, (short) 6);
+        assertEquals(5, whole.getInt(4));
+        assertEquals(6, whole.getShort(2));
+
+        AtomicAccess atomics = AtomicAccess.of(ByteBuffer.allocate(8));
+        assertThrows(IllegalStateException.class, () -> atomics.loadInt(2));
+        assertThrows(IllegalStateException.class, () -> atomics.storeShort(3, (short) 1));
+    }
+
+    @Test
+    public void checksBoundsAndReadOnly() {
+        AtomicAccess atomics = AtomicAccess.of(ByteBuffer.allocate(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> atomics.loadInt(8));
+        assertThrows(IndexOutOfBoundsException.class, () -> atomics.loadInt(-4));
+        assertThrows(IndexOutOfBoundsException.class, () -> atomics.loadShort(8));
+
+        AtomicAccess readOnly = AtomicAccess.of(ByteBuffer.allocate(8).asReadOnlyBuffer());
+        assertEquals(0, readOnly.loadInt(0));
+        assertThrows(ReadOnlyBufferException.class, () -> readOnly.storeInt(0, 1));
+        assertThrows(ReadOnlyBufferException.class, () -> readOnly.compareAndSetInt(0, 0, 1));
+        assertThrows(ReadOnlyBufferException.class, () -> readOnly.getAndAddShort(0, (short) 1));
+    }
+
+    @Test
+    public void swappedAdditionsDoNotLoseUpdates() throws InterruptedException {
+        ByteOrder swapped = ByteOrder.nativeOrder() == ByteOrder.BIG_ENDIAN
+                ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+        ByteBuffer buffer = TypedArrayHelper.allocateShared(8).order(swapped);
+        AtomicAccess atomics = AtomicAccess.of(buffer);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 5000; i++) {
+                    atomics.getAndAddInt(0, 3);
+                    atomics.getAndAddShort(4, (short) 1);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4 * 5000 * 3, buffer.getInt(0));
+        assertEquals(4 * 5000, buffer.getShort(4));
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.junit.Test;
+
+public class BufferPoolTest {
+
+    @Test
+    public void reusesReleasedMemory() {
+        BufferPool pool = new BufferPool(1024, 4);
+        ByteBuffer first = pool.allocate(100);
+        first.put(0, (byte) 1);
+        pool.release(first);
+        assertEquals(128, pool.getPooledBytes());
+
+        ByteBuffer second = pool.allocate(120);
+        assertSame(TypedArrayHelper.unwrap(first).buffer, TypedArrayHelper.unwrap(second).buffer);
+        assertEquals(120, second.capacity());
+        assertEquals(0, second.get(0));
+        assertEquals(1, pool.getHitCount());
+        assertEquals(1, pool.getMissCount());
+        assertEquals(0, pool.getPooledBytes());
+    }
+
+    @Test
+    public void countsOversizedRequestsApart() {
+        BufferPool pool = new BufferPool(1024, 4);
+        ByteBuffer large = pool.allocate(2000);
+        pool.release(large);
+        assertNotSame(TypedArrayHelper.unwrap(large).buffer, TypedArrayHelper.unwrap(pool.allocate(2000)).buffer);
+        pool.allocate(10);
+
+        assertEquals(3, pool.getMissCount());
+        assertEquals(2, pool.getOversizedMissCount());
+        assertEquals(0, pool.getPooledBytes());
+        assertEquals("BufferPool[hits=0, misses=3, oversized=2, releases=0, pooledBytes=0, 64: 0/1]",
+                pool.toString());
+
+        pool.resetStatistics();
+        assertEquals(0, pool.getMissCount());
+        assertEquals(0, pool.getOversizedMissCount());
+    }
+
+    @Test
+    public void clearDropsFreeMemory() {
+        BufferPool pool = new BufferPool(1024, 4);
+        ByteBuffer buffer = pool.allocate(64);
+        pool.release(buffer);
+        pool.clear();
+        assertEquals(0, pool.getPooledBytes());
+        assertNotSame(TypedArrayHelper.unwrap(buffer).buffer, TypedArrayHelper.unwrap(pool.allocate(64)).buffer);
+    }
+
+    @Test
+    public void debugModeCatchesDoubleReleases() {
+        BufferPool pool = new BufferPool().setDebug(true);
+        ByteBuffer buffer = pool.allocate(64);
+        pool.release(buffer);
+        assertThrows(IllegalStateException.class, () -> pool.release(buffer));
+    }
+
+    @Test
+    public void rejectsMemoryItDidNotHandOut() {
+        BufferPool pool = new BufferPool(1024, 4);
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(64)));
+        assertThrows(IllegalArgumentException.class, () -> pool.release(ByteBuffer.allocate(2000)));
+        assertThrows(IllegalArgumentException.class,
+                () -> pool.release(new BufferPool(1024, 4).allocate(64)));
+        assertEquals(0, pool.getReleaseCount());
+        assertEquals(0, pool.getPooledBytes());
+
+        // views and slices of pooled memory are accepted
+        ByteBuffer buffer = pool.allocate(64);
+        buffer.position(8);
+        pool.release(buffer.slice().asIntBuffer());
+        assertEquals(1, pool.getReleaseCount());
+        pool.release(pool.allocate(2000));
+    }
+}
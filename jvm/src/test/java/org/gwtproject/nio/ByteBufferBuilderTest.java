@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.ByteOrder;
+import org.junit.Test;
+
+/**
+ * The JVM has no resizable {@code ArrayBuffer}, so these tests run the path that replaces the
+ * memory with a copy.
+ */
+public class ByteBufferBuilderTest {
+
+    @Test
+    public void derivesTheReservationFromTheInitialCapacity() {
+        assertEquals(1 << 16, ByteBufferBuilder.defaultMaxResizable(0));
+        assertEquals(1 << 16, ByteBufferBuilder.defaultMaxResizable(256));
+        assertEquals(1 << 24, ByteBufferBuilder.defaultMaxResizable(1 << 20));
+        assertEquals(Integer.MAX_VALUE, ByteBufferBuilder.defaultMaxResizable(1 << 28));
+        assertEquals(Integer.MAX_VALUE, ByteBufferBuilder.defaultMaxResizable(Integer.MAX_VALUE));
+
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferBuilder(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ByteBufferBuilder(16, 8));
+    }
+
+    @Test
+    public void growsByDoubling() {
+        ByteBufferBuilder builder = new ByteBufferBuilder(4);
+        assertEquals(4, builder.capacity());
+        builder.putInt(1);
+        assertEquals(4, builder.capacity());
+        builder.put((byte) 2);
+        assertEquals(8, builder.capacity());
+        builder.put(new byte[20]);
+        assertEquals(25, builder.capacity());
+        assertEquals(25, builder.length());
+
+        ByteBuffer direct = builder.ensureRemaining(3);
+        assertEquals(50, builder.capacity());
+        direct.put((byte) 7);
+        assertEquals(26, builder.length());
+
+        builder.clear();
+        assertEquals(0, builder.length());
+        assertEquals(50, builder.capacity());
+        assertThrows(IllegalArgumentException.class, () -> builder.ensureRemaining(-1));
+    }
+
+    @Test
+    public void keepsTheContentAcrossAResize() {
+        ByteBufferBuilder builder = new ByteBufferBuilder(2).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer before = builder.putShort((short) 0x0102).toByteBuffer();
+        builder.putLong(0x030405060708090aL).putDouble(1.5).putChar('\u00e9');
+        ByteBuffer after = builder.toByteBuffer();
+
+        assertNotSame(TypedArrayHelper.unwrap(before).buffer, TypedArrayHelper.unwrap(after).buffer);
+        assertEquals(2, before.limit());
+        assertEquals(20, after.limit());
+        assertEquals(0, after.position());
+        assertSame(ByteOrder.LITTLE_ENDIAN, after.order());
+        assertEquals(0x0102, after.getShort());
+        assertEquals(0x030405060708090aL, after.getLong());
+        assertEquals(1.5, after.getDouble(), 0);
+        assertEquals('\u00e9', after.getChar());
+    }
+
+    @Test
+    public void growsPastTheReservationByCopying() {
+        ByteBufferBuilder builder = new ByteBufferBuilder(4, 8);
+        byte[] bytes = new byte[100];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        ByteBuffer rest = ByteBuffer.allocate(100).put(bytes);
+        rest.position(6);
+        builder.put(bytes, 0, 6).put(rest);
+        assertEquals(100, rest.position());
+        assertEquals(100, builder.length());
+
+        ByteBuffer result = builder.toByteBuffer();
+        assertSame(ByteOrder.BIG_ENDIAN, result.order());
+        byte[] read = new byte[100];
+        result.get(read);
+        assertArrayEquals(bytes, read);
+    }
+}
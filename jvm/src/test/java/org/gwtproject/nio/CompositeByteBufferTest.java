@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+
+import elemental2.core.Int8Array;
+import org.gwtproject.nio.emul.BufferUnderflowException;
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.ByteOrder;
+import org.gwtproject.nio.emul.ReadOnlyBufferException;
+import org.junit.Test;
+
+public class CompositeByteBufferTest {
+
+    /** 0, 1, 2, ... split into chunks of the given lengths. */
+    private static CompositeByteBuffer composite(int... lengths) {
+        CompositeByteBuffer buffer = new CompositeByteBuffer();
+        int next = 0;
+        for (int length : lengths) {
+            Int8Array chunk = new Int8Array(length);
+            for (int i = 0; i < length; i++) {
+                chunk.setAt(i, next++);
+            }
+            buffer.append(chunk);
+        }
+        return buffer;
+    }
+
+    /** The same bytes as {@link #composite(int...)}, read by the JDK. */
+    private static java.nio.ByteBuffer expected(int length, java.nio.ByteOrder order) {
+        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(length).order(order);
+        for (int i = 0; i < length; i++) {
+            buffer.put(i, (byte) i);
+        }
+        return buffer;
+    }
+
+    @Test
+    public void readsValuesAcrossChunksBigEndian() {
+        assertReadsLikeTheJdk(ByteOrder.BIG_ENDIAN, java.nio.ByteOrder.BIG_ENDIAN);
+    }
+
+    @Test
+    public void readsValuesAcrossChunksLittleEndian() {
+        assertReadsLikeTheJdk(ByteOrder.LITTLE_ENDIAN, java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static void assertReadsLikeTheJdk(ByteOrder order, java.nio.ByteOrder jdkOrder) {
+        // every value starts at a different offset from a chunk boundary
+        CompositeByteBuffer buffer = composite(3, 1, 5, 2, 7, 4, 9, 1, 6, 8, 2, 3, 7).order(order);
+        java.nio.ByteBuffer jdk = expected(58, jdkOrder);
+        assertEquals(order, buffer.order());
+        for (int round = 0; round < 2; round++) {
+            assertEquals(jdk.get(), buffer.get());
+            assertEquals(jdk.getShort(), buffer.getShort());
+            assertEquals(jdk.getChar(), buffer.getChar());
+            assertEquals(jdk.getInt(), buffer.getInt());
+            assertEquals(jdk.getLong(), buffer.getLong());
+            assertEquals(jdk.getFloat(), buffer.getFloat(), 0);
+            assertEquals(jdk.getDouble(), buffer.getDouble(), 0);
+        }
+        assertEquals(jdk.position(), buffer.position(), 0);
+        assertEquals(jdk.remaining(), buffer.remaining());
+    }
+
+    @Test
+    public void readsBytesAcrossChunks() {
+        CompositeByteBuffer buffer = composite(4, 4, 4, 4);
+        buffer.skip(2);
+        byte[] bytes = new byte[10];
+        buffer.get(bytes, 1, 9);
+        assertArrayEquals(new byte[] {0, 2, 3, 4, 5, 6, 7, 8, 9, 10}, bytes);
+        assertEquals(11, buffer.position(), 0);
+        assertEquals(5, buffer.remaining());
+        assertEquals(2, buffer.chunkCount());
+
+        ByteBuffer dest = ByteBuffer.allocate(6);
+        dest.position(1);
+        buffer.get(dest);
+        assertEquals(6, dest.position());
+        for (int i = 1; i < 6; i++) {
+            assertEquals(10 + i, dest.get(i));
+        }
+        assertFalse(buffer.hasRemaining());
+        assertEquals(0, buffer.chunkCount());
+    }
+
+    @Test
+    public void underflowReadsNothing() {
+        CompositeByteBuffer buffer = composite(2, 1);
+        buffer.get();
+        assertThrows(BufferUnderflowException.class, () -> buffer.getInt());
+        assertThrows(BufferUnderflowException.class, () -> buffer.get(new byte[3]));
+        assertThrows(BufferUnderflowException.class, () -> buffer.get(ByteBuffer.allocate(3)));
+        assertThrows(BufferUnderflowException.class, () -> buffer.skip(3));
+        assertEquals(1, buffer.position(), 0);
+        assertEquals(2, buffer.remaining());
+        assertEquals(0x0102, buffer.getShort());
+        assertThrows(BufferUnderflowException.class, () -> buffer.get());
+    }
+
+    @Test
+    public void checksTheDestinationBuffer() {
+        CompositeByteBuffer buffer = composite(4, 4);
+        assertThrows(ReadOnlyBufferException.class,
+                () -> buffer.get(ByteBuffer.allocate(4).asReadOnlyBuffer()));
+
+        ByteBuffer detached = ByteBuffer.allocate(4);
+        TypedArrayHelper.transfer(detached).detach();
+        assertThrows(IllegalStateException.class, () -> buffer.get(detached));
+        assertEquals(8, buffer.remaining());
+    }
+
+    @Test
+    public void appendsByteBuffers() {
+        ByteBuffer source = ByteBuffer.allocate(8);
+        source.putInt(0x11223344).putInt(0x55667788);
+        source.position(2);
+        CompositeByteBuffer buffer = new CompositeByteBuffer().append(source);
+        buffer.append(new Int8Array(0));
+        assertEquals(6, buffer.remaining());
+        assertEquals(1, buffer.chunkCount());
+        assertEquals(0x33445566, buffer.getInt());
+        assertEquals(2, source.position());
+    }
+}
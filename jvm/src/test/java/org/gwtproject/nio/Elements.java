@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import java.util.Arrays;
+
+import elemental2.core.Float32Array;
+import elemental2.core.Float64Array;
+import elemental2.core.Int16Array;
+import elemental2.core.Int32Array;
+import elemental2.core.Int8Array;
+import elemental2.core.Uint16Array;
+import elemental2.core.Uint8Array;
+
+/**
+ * JVM version of the library's {@code Elements}, which sees typed arrays as Java arrays. That only
+ * works where Java arrays are JavaScript arrays, so this one goes through the stand-in typed arrays.
+ */
+public final class Elements {
+
+    private Elements() {
+    }
+
+    public static byte get(Int8Array array, int index) {
+        return (byte) array.getAt(index);
+    }
+
+    public static void set(Int8Array array, int index, byte value) {
+        array.setAt(index, value);
+    }
+
+    public static int get(Uint8Array array, int index) {
+        return (int) array.getAt(index);
+    }
+
+    public static void set(Uint8Array array, int index, int value) {
+        array.setAt(index, value);
+    }
+
+    public static short get(Int16Array array, int index) {
+        return (short) array.getAt(index);
+    }
+
+    public static void set(Int16Array array, int index, short value) {
+        array.setAt(index, value);
+    }
+
+    public static char get(Uint16Array array, int index) {
+        return (char) array.getAt(index);
+    }
+
+    public static void set(Uint16Array array, int index, char value) {
+        array.setAt(index, value);
+    }
+
+    public static int get(Int32Array array, int index) {
+        return (int) array.getAt(index);
+    }
+
+    public static void set(Int32Array array, int index, int value) {
+        array.setAt(index, value);
+    }
+
+    public static float get(Float32Array array, int index) {
+        return (float) array.getAt(index);
+    }
+
+    public static void set(Float32Array array, int index, float value) {
+        array.setAt(index, value);
+    }
+
+    public static double get(Float64Array array, int index) {
+        return array.getAt(index);
+    }
+
+    public static void set(Float64Array array, int index, double value) {
+        array.setAt(index, value);
+    }
+
+    public static void copy(Int8Array src, int srcIndex, byte[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = (byte) src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(Uint16Array src, int srcIndex, char[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = (char) src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(Int16Array src, int srcIndex, short[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = (short) src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(Int32Array src, int srcIndex, int[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = (int) src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(Float32Array src, int srcIndex, float[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = (float) src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(Float64Array src, int srcIndex, double[] dest, int destIndex, int length) {
+        for (int i = 0; i < length; i++) {
+            dest[destIndex + i] = src.getAt(srcIndex + i);
+        }
+    }
+
+    public static void copy(byte[] src, int srcIndex, Int8Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+
+    public static void copy(char[] src, int srcIndex, Uint16Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+
+    public static void copy(short[] src, int srcIndex, Int16Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+
+    public static void copy(int[] src, int srcIndex, Int32Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+
+    public static void copy(float[] src, int srcIndex, Float32Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+
+    public static void copy(double[] src, int srcIndex, Float64Array dest, int destIndex, int length) {
+        dest.set(Arrays.copyOfRange(src, srcIndex, srcIndex + length), destIndex);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+
+import elemental2.core.ArrayBufferView;
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.ByteOrder;
+import org.gwtproject.nio.emul.IntBuffer;
+import org.junit.Test;
+
+public class FrameArenaTest {
+
+    @Test
+    public void bumpsAndPadsToTheAlignment() {
+        FrameArena arena = new FrameArena(64);
+        ByteBuffer first = arena.allocate(3);
+        ByteBuffer second = arena.allocate(5);
+        ByteBuffer third = arena.allocate(1, 1);
+        ByteBuffer fourth = arena.allocate(2, 4);
+
+        assertEquals(0, TypedArrayHelper.unwrap(first).byteOffset);
+        assertEquals(8, TypedArrayHelper.unwrap(second).byteOffset);
+        assertEquals(13, TypedArrayHelper.unwrap(third).byteOffset);
+        assertEquals(16, TypedArrayHelper.unwrap(fourth).byteOffset);
+        assertSame(TypedArrayHelper.unwrap(first).buffer, TypedArrayHelper.unwrap(fourth).buffer);
+        assertEquals(3, first.capacity());
+        assertEquals(ByteOrder.BIG_ENDIAN, first.order());
+        assertEquals(18, arena.used());
+        assertEquals(46, arena.remaining());
+        assertEquals(0, second.alignmentOffset(0, 8));
+
+        assertThrows(IllegalArgumentException.class, () -> arena.allocate(1, 3));
+        assertThrows(IllegalArgumentException.class, () -> arena.allocate(1, 0));
+        assertThrows(IllegalArgumentException.class, () -> arena.allocate(-1));
+    }
+
+    @Test
+    public void viewsAreBackedByTypedArrays() {
+        FrameArena arena = new FrameArena(64);
+        arena.allocate(1);
+        IntBuffer ints = arena.allocateInts(4);
+        assertEquals(4, ints.capacity());
+        assertEquals(ByteOrder.nativeOrder(), ints.order());
+        ArrayBufferView view = ((HasArrayBufferView) ints).getTypedArray();
+        assertEquals(8, view.byteOffset);
+        assertEquals("Int32Array", view.getClass().getSimpleName());
+        assertEquals(24, arena.used());
+    }
+
+    @Test
+    public void resetReusesZeroedMemory() {
+        FrameArena arena = new FrameArena(32);
+        ByteBuffer first = arena.allocate(12);
+        first.putInt(0x01020304).putInt(-1).putInt(7);
+        arena.reset();
+        assertEquals(0, arena.used());
+        assertEquals(12, arena.getHighWaterMark());
+
+        ByteBuffer again = arena.allocate(8);
+        assertSame(TypedArrayHelper.unwrap(first).buffer, TypedArrayHelper.unwrap(again).buffer);
+        assertEquals(0, TypedArrayHelper.unwrap(again).byteOffset);
+        assertEquals(0, again.getLong(0));
+        // the rest is zeroed when it is handed out again
+        assertEquals(7, first.getInt(8));
+        ByteBuffer rest = arena.allocate(8);
+        assertEquals(0, rest.getLong(0));
+        assertEquals(16, arena.getHighWaterMark());
+    }
+
+    @Test
+    public void overflowsOutsideTheArena() {
+        FrameArena arena = new FrameArena(16);
+        ByteBuffer inside = arena.allocate(10);
+        ByteBuffer outside = arena.allocate(8);
+        assertNotSame(TypedArrayHelper.unwrap(inside).buffer, TypedArrayHelper.unwrap(outside).buffer);
+        assertEquals(8, outside.capacity());
+        assertEquals(1, arena.getOverflowCount());
+        assertEquals(10, arena.used());
+
+        // fits without the padding, but not with it
+        arena.allocate(6, 8);
+        assertEquals(2, arena.getOverflowCount());
+        arena.allocate(6, 1);
+        assertEquals(16, arena.used());
+        assertEquals(0, arena.remaining());
+        arena.allocate(0);
+        assertEquals(2, arena.getOverflowCount());
+        assertEquals("FrameArena[used=16, capacity=16, highWaterMark=16, overflows=2]", arena.toString());
+    }
+}
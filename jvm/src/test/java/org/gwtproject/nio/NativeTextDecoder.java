@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+import elemental2.core.ArrayBufferView;
+import elemental2.core.Uint8Array;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * JVM version of the library's {@code NativeTextDecoder}, which decodes with the JDK's decoder for
+ * the given label and, like the platform's {@code TextDecoder}, keeps an incomplete sequence at
+ * the end of a streaming call for the next one, and drops a byte order mark at the start of the
+ * stream unless the {@code ignoreBOM} option is set.
+ */
+class NativeTextDecoder {
+
+    private final CharsetDecoder decoder;
+    private final boolean ignoreBom;
+    private byte[] pending = new byte[0];
+    /** Whether no char has been decoded since the start of the stream. */
+    private boolean atStart = true;
+
+    NativeTextDecoder(String label, JsPropertyMap<Object> options) {
+        decoder = Charset.forName(label).newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ignoreBom = Js.isTruthy(options.get("ignoreBOM"));
+    }
+
+    String decode(ArrayBufferView input, JsPropertyMap<Object> options) {
+        Uint8Array view = new Uint8Array(input.buffer, input.byteOffset, input.byteLength);
+        byte[] bytes = Arrays.copyOf(pending, pending.length + view.length);
+        for (int i = 0; i < view.length; i++) {
+            bytes[pending.length + i] = (byte) view.getAt(i);
+        }
+        boolean stream = Js.isTruthy(options.get("stream"));
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        CharBuffer out = CharBuffer.allocate(bytes.length + 1);
+        decoder.decode(in, out, !stream);
+        if (!stream) {
+            decoder.flush(out);
+            decoder.reset();
+        }
+        pending = Arrays.copyOfRange(bytes, in.position(), bytes.length);
+        String result = out.flip().toString();
+        if (atStart && !ignoreBom && result.startsWith("\ufeff")) {
+            result = result.substring(1);
+        }
+        atStart = !stream || (atStart && out.limit() == 0);
+        return result;
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.Uint8Array;
+import jsinterop.base.JsPropertyMap;
+
+/**
+ * JVM version of the library's {@code NativeTextEncoder}, which encodes like the platform's
+ * {@code TextEncoder.encodeInto}: whole code points only, lone surrogates as U+FFFD.
+ */
+class NativeTextEncoder {
+
+    JsPropertyMap<Object> encodeInto(String source, Uint8Array destination) {
+        int read = 0;
+        int written = 0;
+        while (read < source.length()) {
+            int codePoint = source.codePointAt(read);
+            int chars = Character.charCount(codePoint);
+            if (Character.isSurrogate((char) codePoint)) {
+                codePoint = 0xFFFD;
+            }
+            int bytes = codePoint < 0x80 ? 1 : codePoint < 0x800 ? 2 : codePoint < 0x10000 ? 3 : 4;
+            if (written + bytes > destination.length) {
+                break;
+            }
+            if (bytes == 1) {
+                destination.setAt(written, codePoint);
+            } else {
+                int lead = bytes == 2 ? 0xC0 : bytes == 3 ? 0xE0 : 0xF0;
+                destination.setAt(written, lead | (codePoint >> (6 * (bytes - 1))));
+                for (int i = 1; i < bytes; i++) {
+                    destination.setAt(written + i, 0x80 | ((codePoint >> (6 * (bytes - 1 - i))) & 0x3F));
+                }
+            }
+            read += chars;
+            written += bytes;
+        }
+        return JsPropertyMap.of("read", read, "written", written);
+    }
+}
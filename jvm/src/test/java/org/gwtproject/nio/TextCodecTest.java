@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.CharBuffer;
+import org.gwtproject.nio.emul.ReadOnlyBufferException;
+import org.junit.Test;
+
+public class TextCodecTest {
+
+    private static final String ASCII = "Hello, world";
+    private static final String LATIN_1 = "Hi\u00e9 \u00ff \u0000";
+    private static final String UNICODE = "\u00e9\u20ac\u4e2d \ud83d\ude00 \ud800\udfff";
+
+    @Test
+    public void roundTripsUtf8() {
+        assertRoundTrip(TextCodec.UTF_8, StandardCharsets.UTF_8, ASCII);
+        assertRoundTrip(TextCodec.UTF_8, StandardCharsets.UTF_8, LATIN_1);
+        assertRoundTrip(TextCodec.UTF_8, StandardCharsets.UTF_8, UNICODE);
+    }
+
+    @Test
+    public void roundTripsUtf16be() {
+        assertRoundTrip(TextCodec.UTF_16BE, StandardCharsets.UTF_16BE, ASCII);
+        assertRoundTrip(TextCodec.UTF_16BE, StandardCharsets.UTF_16BE, LATIN_1);
+        assertRoundTrip(TextCodec.UTF_16BE, StandardCharsets.UTF_16BE, UNICODE);
+    }
+
+    @Test
+    public void roundTripsUtf16le() {
+        assertRoundTrip(TextCodec.UTF_16LE, StandardCharsets.UTF_16LE, ASCII);
+        assertRoundTrip(TextCodec.UTF_16LE, StandardCharsets.UTF_16LE, LATIN_1);
+        assertRoundTrip(TextCodec.UTF_16LE, StandardCharsets.UTF_16LE, UNICODE);
+    }
+
+    @Test
+    public void roundTripsLatin1() {
+        assertRoundTrip(TextCodec.ISO_8859_1, StandardCharsets.ISO_8859_1, ASCII);
+        assertRoundTrip(TextCodec.ISO_8859_1, StandardCharsets.ISO_8859_1, LATIN_1);
+    }
+
+    @Test
+    public void encodesSupplementaryCharactersAsOneLatin1Replacement() {
+        for (String text : new String[] {UNICODE, "a\ud83d\ude00b", "\ud83dx", "x\ude00", "\ud83d"}) {
+            byte[] expected = text.getBytes(StandardCharsets.ISO_8859_1);
+            ByteBuffer encoded = TextCodec.ISO_8859_1.encode(text);
+            byte[] actual = new byte[encoded.remaining()];
+            encoded.get(actual);
+            assertArrayEquals(text, expected, actual);
+        }
+
+        TextCodec.Encoder encoder = TextCodec.ISO_8859_1.newEncoder();
+        ByteBuffer out = ByteBuffer.allocate(4);
+        CharBuffer first = CharBuffer.wrap("a\ud83d");
+        assertTrue(encoder.encode(first, out, false));
+        assertEquals(1, first.position());
+        assertTrue(encoder.encode(CharBuffer.wrap("\ud83d\ude00b"), out, true));
+        out.flip();
+        assertEquals("a?b", TextCodec.ISO_8859_1.decode(out));
+    }
+
+    @Test
+    public void decodesLatin1AsChars() {
+        ByteBuffer in = bytes(new byte[] {0x48, 0x69, (byte) 0xE9});
+        assertEquals("Hi\u00e9", TextCodec.ISO_8859_1.decode(in));
+        assertEquals(3, in.position());
+    }
+
+    @Test
+    public void findsCodecsByNameAndAlias() {
+        assertSame(TextCodec.UTF_8, TextCodec.forName("utf8"));
+        assertSame(TextCodec.UTF_16BE, TextCodec.forName("UnicodeBigUnmarked"));
+        assertSame(TextCodec.UTF_16LE, TextCodec.forName("UTF-16LE"));
+        assertSame(TextCodec.ISO_8859_1, TextCodec.forName("latin1"));
+        assertSame(TextCodec.UTF_8, TextCodec.forCharset(StandardCharsets.UTF_8));
+        assertThrows(UnsupportedCharsetException.class, () -> TextCodec.forName("UTF-32"));
+    }
+
+    @Test
+    public void encodesOnlyWhatFits() {
+        for (TextCodec codec : new TextCodec[] {TextCodec.UTF_8, TextCodec.UTF_16BE, TextCodec.ISO_8859_1}) {
+            CharBuffer in = CharBuffer.wrap("abcdef");
+            ByteBuffer out = ByteBuffer.allocate(4);
+            assertFalse(codec.toString(), codec.newEncoder().encode(in, out, true));
+            assertEquals(codec.toString(), 0, out.remaining());
+            assertEquals(codec.toString(), codec == TextCodec.UTF_16BE ? 2 : 4, in.position());
+        }
+    }
+
+    @Test
+    public void keepsHighSurrogateForTheNextCall() {
+        for (TextCodec codec : new TextCodec[] {TextCodec.UTF_8, TextCodec.UTF_16LE}) {
+            TextCodec.Encoder encoder = codec.newEncoder();
+            ByteBuffer out = ByteBuffer.allocate(16);
+            CharBuffer first = CharBuffer.wrap("a\ud83d");
+            assertTrue(encoder.encode(first, out, false));
+            assertEquals(1, first.position());
+            CharBuffer second = CharBuffer.wrap("\ud83d\ude00");
+            assertTrue(encoder.encode(second, out, true));
+            out.flip();
+            assertEquals(codec.toString(), "a\ud83d\ude00", codec.decode(out));
+        }
+    }
+
+    @Test
+    public void decodesSequencesSplitAcrossCalls() {
+        String text = "a\u00e9\u20ac\ud83d\ude00";
+        for (TextCodec codec : new TextCodec[] {TextCodec.UTF_8, TextCodec.UTF_16BE, TextCodec.UTF_16LE}) {
+            byte[] bytes = text.getBytes(Charset.forName(codec.name()));
+            for (int split = 0; split <= bytes.length; split++) {
+                TextCodec.Decoder decoder = codec.newDecoder();
+                String decoded = decoder.decode(bytes(Arrays.copyOfRange(bytes, 0, split)), false)
+                    + decoder.decode(bytes(Arrays.copyOfRange(bytes, split, bytes.length)), true);
+                assertEquals(codec + " split at " + split, text, decoded);
+            }
+        }
+    }
+
+    @Test
+    public void replacesMalformedInput() {
+        assertEquals("a\ufffd", TextCodec.UTF_8.decode(bytes(new byte[] {'a', (byte) 0xE2, (byte) 0x82})));
+        assertEquals("\ufffd", TextCodec.UTF_16BE.decode(bytes(new byte[] {0x00})));
+        assertEquals('?', TextCodec.ISO_8859_1.encode("\u20ac").get(0));
+
+        TextCodec.Decoder decoder = TextCodec.UTF_16LE.newDecoder();
+        assertEquals("", decoder.decode(bytes(new byte[] {0x41}), false));
+        decoder.reset();
+        assertEquals("B", decoder.decode(bytes(new byte[] {0x42, 0x00}), true));
+    }
+
+    @Test
+    public void keepsByteOrderMarks() {
+        for (TextCodec codec : new TextCodec[] {TextCodec.UTF_8, TextCodec.UTF_16BE, TextCodec.UTF_16LE}) {
+            byte[] bytes = "\ufeffA".getBytes(Charset.forName(codec.name()));
+            assertEquals(codec.toString(), new String(bytes, Charset.forName(codec.name())),
+                    codec.decode(bytes(bytes)));
+            assertEquals(codec.toString(), "\ufeffA", codec.decode(bytes(bytes)));
+
+            TextCodec.Decoder decoder = codec.newDecoder();
+            String decoded = decoder.decode(bytes(Arrays.copyOfRange(bytes, 0, 1)), false)
+                + decoder.decode(bytes(Arrays.copyOfRange(bytes, 1, bytes.length)), true);
+            assertEquals(codec.toString(), "\ufeffA", decoded);
+        }
+    }
+
+    @Test
+    public void refusesReadOnlyOutput() {
+        for (TextCodec codec : new TextCodec[] {TextCodec.UTF_8, TextCodec.UTF_16BE, TextCodec.UTF_16LE,
+                TextCodec.ISO_8859_1}) {
+            ByteBuffer memory = ByteBuffer.allocate(8);
+            ByteBuffer readOnly = memory.asReadOnlyBuffer();
+            CharBuffer in = CharBuffer.wrap("ab");
+            assertThrows(codec.toString(), ReadOnlyBufferException.class,
+                    () -> codec.newEncoder().encode(in, readOnly, true));
+            assertEquals(codec.toString(), 0, in.position());
+            assertEquals(codec.toString(), 0, readOnly.position());
+            assertEquals(codec.toString(), 0, memory.get(0));
+        }
+    }
+
+    /** Encodes like the JDK does, and decodes what the JDK encodes back into the same text. */
+    private static void assertRoundTrip(TextCodec codec, Charset charset, String text) {
+        byte[] expected = text.getBytes(charset);
+        ByteBuffer encoded = codec.encode(text);
+        byte[] actual = new byte[encoded.remaining()];
+        encoded.get(actual);
+        assertArrayEquals(codec + " " + text, expected, actual);
+
+        assertEquals(codec + " " + text, text, codec.decode(bytes(expected)));
+    }
+
+    private static ByteBuffer bytes(byte[] src) {
+        ByteBuffer buffer = ByteBuffer.allocate(src.length);
+        buffer.put(src).flip();
+        return buffer;
+    }
+}
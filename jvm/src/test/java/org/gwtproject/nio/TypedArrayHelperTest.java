@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import elemental2.core.ArrayBuffer;
+import org.gwtproject.nio.emul.ByteBuffer;
+import org.gwtproject.nio.emul.ByteOrder;
+import org.gwtproject.nio.emul.CharBuffer;
+import org.gwtproject.nio.emul.IntBuffer;
+import org.junit.Test;
+
+public class TypedArrayHelperTest {
+
+    @Test
+    public void transferDetachesTheBufferAndItsViews() {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        IntBuffer ints = bb.asIntBuffer();
+        ArrayBuffer memory = TypedArrayHelper.transfer(bb);
+        assertSame(TypedArrayHelper.unwrap(bb).buffer, memory);
+        assertFalse(TypedArrayHelper.isDetached(bb));
+
+        memory.detach();
+        assertTrue(TypedArrayHelper.isDetached(bb));
+        assertTrue(TypedArrayHelper.isDetached(ints));
+        assertThrows(IllegalStateException.class, () -> bb.get(0));
+        assertThrows(IllegalStateException.class, () -> bb.put((byte) 1));
+        assertThrows(IllegalStateException.class, () -> bb.getInt());
+        assertThrows(IllegalStateException.class, () -> ints.get(0));
+        assertThrows(IllegalStateException.class, () -> ints.put(new int[2]));
+        assertThrows(IllegalStateException.class, () -> TypedArrayHelper.transfer(bb));
+    }
+
+    @Test
+    public void adoptKeepsContentAndState() {
+        ByteBuffer bb = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        bb.putInt(0x01020304).putInt(0x05060708);
+        bb.limit(12).mark();
+        ArrayBuffer received = TypedArrayHelper.transfer(bb).detach();
+
+        assertSame(bb, TypedArrayHelper.adopt(bb, received));
+        assertFalse(TypedArrayHelper.isDetached(bb));
+        assertSame(received, TypedArrayHelper.unwrap(bb).buffer);
+        assertEquals(8, bb.position());
+        assertEquals(12, bb.limit());
+        assertEquals(ByteOrder.LITTLE_ENDIAN, bb.order());
+        assertEquals(0x05060708, bb.getInt(4));
+        bb.putInt(42).reset();
+        assertEquals(42, bb.getInt());
+        assertEquals(0x01020304, bb.getInt(0));
+    }
+
+    @Test
+    public void adoptWithoutDetaching() {
+        // where ArrayBuffer.prototype.transfer is missing, the memory is only detached once posted
+        ByteBuffer bb = ByteBuffer.allocate(8);
+        bb.put(3, (byte) 7);
+        ArrayBuffer memory = TypedArrayHelper.transfer(bb);
+        TypedArrayHelper.adopt(bb, memory);
+        assertEquals(7, bb.get(3));
+        assertThrows(IllegalStateException.class, () -> TypedArrayHelper.adopt(bb, memory));
+    }
+
+    @Test
+    public void adoptPutsSlicesAtTheirOffset() {
+        ByteBuffer bb = ByteBuffer.allocate(32);
+        for (int i = 0; i < 32; i++) {
+            bb.put(i, (byte) i);
+        }
+        bb.position(8).limit(16);
+        ByteBuffer slice = bb.slice();
+        bb.clear().position(20);
+        ByteBuffer duplicate = bb.duplicate();
+
+        ArrayBuffer received = TypedArrayHelper.transfer(bb).detach();
+        assertTrue(TypedArrayHelper.isDetached(slice));
+        TypedArrayHelper.adopt(slice, received);
+        TypedArrayHelper.adopt(duplicate, received);
+        assertEquals(8, slice.capacity());
+        assertEquals(8, slice.get(0));
+        assertEquals(15, slice.get(7));
+        assertEquals(20, duplicate.get());
+    }
+
+    @Test
+    public void adoptChecksTheMemory() {
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        assertThrows(IllegalStateException.class, () -> TypedArrayHelper.adopt(bb, new ArrayBuffer(16)));
+
+        bb.position(8);
+        ByteBuffer slice = bb.slice();
+        TypedArrayHelper.transfer(bb).detach();
+        assertThrows(IllegalArgumentException.class, () -> TypedArrayHelper.adopt(slice, new ArrayBuffer(12)));
+        assertTrue(TypedArrayHelper.isDetached(slice));
+    }
+
+    @Test
+    public void bulkCopiesCheckBothBuffers() {
+        ByteBuffer attached = ByteBuffer.allocate(16);
+        ByteBuffer detached = ByteBuffer.allocate(16);
+        CharBuffer attachedChars = attached.asCharBuffer();
+        CharBuffer detachedChars = detached.asCharBuffer();
+        TypedArrayHelper.transfer(detached).detach();
+
+        assertThrows(IllegalStateException.class, () -> attached.put(detached));
+        assertThrows(IllegalStateException.class, () -> detached.put(attached));
+        assertThrows(IllegalStateException.class, () -> attachedChars.put(detachedChars));
+        assertThrows(IllegalStateException.class, () -> detachedChars.put(attachedChars));
+        assertEquals(0, attached.position());
+        assertEquals(0, attachedChars.position());
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.emul;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import elemental2.core.DataView;
+import elemental2.core.Float64Array;
+import elemental2.core.Int16Array;
+import elemental2.core.Int32Array;
+import org.gwtproject.nio.HasArrayBufferView;
+import org.junit.Test;
+
+public class ByteBufferTest {
+
+    private static final int SIZE = 40;
+
+    /** A buffer holding 0, 1, 2, ..., with the given position and limit. */
+    private static ByteBuffer bytes(int position, int limit) {
+        ByteBuffer buffer = ByteBuffer.allocate(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            buffer.put(i, (byte) i);
+        }
+        buffer.limit(limit).position(position);
+        return buffer;
+    }
+
+    /** The same as {@link #bytes(int, int)}, for the JDK. */
+    private static java.nio.ByteBuffer jdkBytes(int position, int limit) {
+        java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(SIZE);
+        for (int i = 0; i < SIZE; i++) {
+            buffer.put(i, (byte) i);
+        }
+        buffer.limit(limit).position(position);
+        return buffer;
+    }
+
+    @Test
+    public void alignmentOffsetCountsFromTheMemory() {
+        ByteBuffer buffer = bytes(3, SIZE);
+        ByteBuffer slice = buffer.slice();
+        assertEquals(3, buffer.alignmentOffset(3, 4));
+        assertEquals(3, slice.alignmentOffset(0, 4));
+        assertEquals(0, slice.alignmentOffset(1, 4));
+        assertEquals(1, slice.alignmentOffset(SIZE, 2));
+        assertEquals(0, slice.alignmentOffset(0, 1));
+        assertThrows(IllegalArgumentException.class, () -> slice.alignmentOffset(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> slice.alignmentOffset(0, 3));
+        assertThrows(IllegalArgumentException.class, () -> slice.alignmentOffset(0, 0));
+    }
+
+    @Test
+    public void alignedSliceTrimsBothEnds() {
+        ByteBuffer buffer = bytes(3, 29).order(ByteOrder.LITTLE_ENDIAN);
+        ByteBuffer aligned = buffer.asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN).alignedSlice(8);
+        assertEquals(0, aligned.position());
+        assertEquals(16, aligned.capacity());
+        assertEquals(16, aligned.limit());
+        assertEquals(0, aligned.alignmentOffset(0, 8));
+        assertEquals(8, aligned.get(0));
+        assertEquals(23, aligned.get(15));
+        assertEquals(ByteOrder.LITTLE_ENDIAN, aligned.order());
+        assertTrue(aligned.isReadOnly());
+        assertEquals(3, buffer.position());
+
+        assertEquals(0, bytes(9, 15).alignedSlice(8).capacity());
+        assertEquals(0, bytes(5, 5).alignedSlice(4).capacity());
+        assertThrows(IllegalArgumentException.class, () -> buffer.alignedSlice(6));
+    }
+
+    @Test
+    public void viewsOfAlignedSlicesAreTypedArrays() {
+        ByteBuffer aligned = bytes(1, SIZE - 1).order(ByteOrder.nativeOrder()).alignedSlice(8);
+        assertTrue(typedArray(aligned.asShortBuffer()) instanceof Int16Array);
+        assertTrue(typedArray(aligned.asIntBuffer()) instanceof Int32Array);
+        assertTrue(typedArray(aligned.asDoubleBuffer()) instanceof Float64Array);
+        assertTrue(typedArray(bytes(1, SIZE).asIntBuffer()) instanceof DataView);
+    }
+
+    private static Object typedArray(Object buffer) {
+        return ((HasArrayBufferView) buffer).getTypedArray();
+    }
+
+    @Test
+    public void unalignedViewsReadLikeTheJdk() {
+        for (int position = 1; position < 8; position++) {
+            assertViewsRead(position, ByteOrder.BIG_ENDIAN, java.nio.ByteOrder.BIG_ENDIAN);
+            assertViewsRead(position, ByteOrder.LITTLE_ENDIAN, java.nio.ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private static void assertViewsRead(int position, ByteOrder order, java.nio.ByteOrder jdkOrder) {
+        ByteBuffer buffer = bytes(position, SIZE).order(order);
+        java.nio.ByteBuffer jdk = jdkBytes(position, SIZE).order(jdkOrder);
+        ShortBuffer shorts = buffer.asShortBuffer();
+        java.nio.ShortBuffer jdkShorts = jdk.asShortBuffer();
+        assertEquals(jdkShorts.capacity(), shorts.capacity());
+        for (int i = 0; i < shorts.capacity(); i++) {
+            assertEquals(jdkShorts.get(i), shorts.get(i));
+        }
+        CharBuffer chars = buffer.asCharBuffer();
+        java.nio.CharBuffer jdkChars = jdk.asCharBuffer();
+        for (int i = 0; i < chars.capacity(); i++) {
+            assertEquals(jdkChars.get(i), chars.get(i));
+        }
+        IntBuffer ints = buffer.asIntBuffer();
+        java.nio.IntBuffer jdkInts = jdk.asIntBuffer();
+        assertEquals(jdkInts.capacity(), ints.capacity());
+        int[] intArray = new int[ints.capacity()];
+        ints.get(intArray);
+        for (int i = 0; i < intArray.length; i++) {
+            assertEquals(jdkInts.get(i), intArray[i]);
+        }
+        FloatBuffer floats = buffer.asFloatBuffer();
+        java.nio.FloatBuffer jdkFloats = jdk.asFloatBuffer();
+        for (int i = 0; i < floats.capacity(); i++) {
+            assertEquals(Float.floatToRawIntBits(jdkFloats.get(i)), Float.floatToRawIntBits(floats.get(i)));
+        }
+        LongBuffer longs = buffer.asLongBuffer();
+        java.nio.LongBuffer jdkLongs = jdk.asLongBuffer();
+        assertEquals(jdkLongs.capacity(), longs.capacity());
+        for (int i = 0; i < longs.capacity(); i++) {
+            assertEquals(jdkLongs.get(i), longs.get(i));
+        }
+        DoubleBuffer doubles = buffer.asDoubleBuffer();
+        java.nio.DoubleBuffer jdkDoubles = jdk.asDoubleBuffer();
+        for (int i = 0; i < doubles.capacity(); i++) {
+            assertEquals(Double.doubleToRawLongBits(jdkDoubles.get(i)),
+                    Double.doubleToRawLongBits(doubles.get(i)));
+        }
+    }
+
+    @Test
+    public void unalignedViewsWriteLikeTheJdk() {
+        for (int position = 1; position < 4; position++) {
+            ByteBuffer buffer = bytes(position, SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            java.nio.ByteBuffer jdk = jdkBytes(position, SIZE).order(java.nio.ByteOrder.LITTLE_ENDIAN);
+            buffer.asIntBuffer().put(new int[] {0x01020304, -1}).put(0x7f000001);
+            jdk.asIntBuffer().put(new int[] {0x01020304, -1}).put(0x7f000001);
+            buffer.asShortBuffer().put(7, (short) -2);
+            jdk.asShortBuffer().put(7, (short) -2);
+            buffer.asDoubleBuffer().put(2, Math.PI);
+            jdk.asDoubleBuffer().put(2, Math.PI);
+            buffer.asCharBuffer().put(13, '\u20ac');
+            jdk.asCharBuffer().put(13, '\u20ac');
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals("byte " + i + " at position " + position, jdk.get(i), buffer.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void alignedLongViewsMatchTheJdk() {
+        for (ByteOrder order : new ByteOrder[] {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+            java.nio.ByteOrder jdkOrder = order == ByteOrder.LITTLE_ENDIAN
+                    ? java.nio.ByteOrder.LITTLE_ENDIAN : java.nio.ByteOrder.BIG_ENDIAN;
+            LongBuffer longs = bytes(8, SIZE).order(order).asLongBuffer();
+            java.nio.LongBuffer jdkLongs = jdkBytes(8, SIZE).order(jdkOrder).asLongBuffer();
+            assertTrue(typedArray(longs) instanceof Int32Array);
+            for (int i = 0; i < longs.capacity(); i++) {
+                assertEquals(jdkLongs.get(i), longs.get(i));
+            }
+            assertEquals(jdkLongs.hashCode(), longs.hashCode());
+
+            ByteBuffer buffer = bytes(0, SIZE).order(order);
+            java.nio.ByteBuffer jdk = jdkBytes(0, SIZE).order(jdkOrder);
+            buffer.asLongBuffer().put(1, 0x0102030405060708L).put(new long[] {-2L, Long.MIN_VALUE});
+            jdk.asLongBuffer().put(1, 0x0102030405060708L).put(new long[] {-2L, Long.MIN_VALUE});
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals("byte " + i + " in " + order, jdk.get(i), buffer.get(i));
+            }
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.emul;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class CharBufferTest {
+
+    @Test
+    public void wrapSharesTheArray() {
+        char[] array = "hello".toCharArray();
+        CharBuffer buffer = CharBuffer.wrap(array);
+        assertTrue(buffer.hasArray());
+        assertFalse(buffer.isDirect());
+        assertSame(array, buffer.array());
+        assertEquals(0, buffer.arrayOffset());
+
+        buffer.put(0, 'j');
+        assertEquals('j', array[0]);
+        array[4] = 'y';
+        assertEquals("jelly", buffer.toString());
+        assertEquals('y', buffer.get(4));
+    }
+
+    @Test
+    public void wrapRange() {
+        char[] array = "abcdef".toCharArray();
+        CharBuffer buffer = CharBuffer.wrap(array, 2, 3);
+        assertEquals(6, buffer.capacity());
+        assertEquals(2, buffer.position());
+        assertEquals(5, buffer.limit());
+        assertEquals("cde", buffer.toString());
+
+        CharBuffer slice = buffer.slice();
+        assertEquals(2, slice.arrayOffset());
+        assertEquals('c', slice.get(0));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> CharBuffer.wrap(array, 4, 3));
+    }
+
+    @Test
+    public void readOnlyWrapHidesTheArray() {
+        CharBuffer buffer = CharBuffer.wrap(new char[4]).asReadOnlyBuffer();
+        assertFalse(buffer.hasArray());
+        assertThrows(ReadOnlyBufferException.class, buffer::array);
+        assertThrows(ReadOnlyBufferException.class, () -> buffer.put('a'));
+    }
+
+    @Test
+    public void putCharArrayRange() {
+        char[] src = new char[1000];
+        for (int i = 0; i < src.length; i++) {
+            src[i] = (char) (i * 31);
+        }
+        CharBuffer buffer = CharBuffer.allocate(src.length);
+        buffer.put(src, 1, src.length - 1);
+        assertEquals(src.length - 1, buffer.position());
+        for (int i = 0; i < src.length - 1; i++) {
+            assertEquals(src[i + 1], buffer.get(i));
+        }
+    }
+
+    @Test
+    public void putCharBufferBetweenImplementations() {
+        CharBuffer typed = CharBuffer.allocate(8);
+        typed.put(CharBuffer.wrap("abc".toCharArray()));
+        typed.put(CharBuffer.wrap("de"));
+        typed.flip();
+        assertEquals("abcde", typed.toString());
+
+        char[] array = new char[5];
+        CharBuffer wrapped = CharBuffer.wrap(array);
+        wrapped.put(typed);
+        assertArrayEquals("abcde".toCharArray(), array);
+        assertEquals(5, typed.position());
+
+        assertThrows(BufferOverflowException.class, () -> CharBuffer.allocate(1).put(CharBuffer.wrap("ab")));
+    }
+
+    @Test
+    public void readFillsTheTargetAndKeepsTheLimit() throws Exception {
+        CharBuffer source = CharBuffer.wrap("abcdef");
+        CharBuffer target = CharBuffer.allocate(4);
+        assertEquals(4, source.read(target));
+        assertEquals(4, source.position());
+        assertEquals(6, source.limit());
+        target.flip();
+        assertEquals("abcd", target.toString());
+
+        CharBuffer rest = CharBuffer.wrap(new char[4]);
+        assertEquals(2, source.read(rest));
+        assertEquals(-1, source.read(rest));
+
+        CharBuffer readOnly = CharBuffer.allocate(4).asReadOnlyBuffer();
+        CharBuffer more = CharBuffer.wrap("xy");
+        assertThrows(ReadOnlyBufferException.class, () -> more.read(readOnly));
+        assertEquals(2, more.limit());
+    }
+
+    @Test
+    public void hashCodeFollowsAWrappedBuilder() {
+        StringBuilder builder = new StringBuilder("hello");
+        CharBuffer buffer = CharBuffer.wrap(builder);
+        assertEquals(java.nio.CharBuffer.wrap("hello").hashCode(), buffer.hashCode());
+        builder.setCharAt(0, 'j');
+        assertEquals(java.nio.CharBuffer.wrap("jello").hashCode(), buffer.hashCode());
+
+        CharBuffer string = CharBuffer.wrap("hello");
+        assertEquals(string.hashCode(), string.hashCode());
+        assertEquals(java.nio.CharBuffer.wrap("hello").hashCode(), string.hashCode());
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.jvm;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the emulation's byte buffer with the JDK's on the same data. Each pair of methods does
+ * the same work, one on {@code org.gwtproject.nio.emul.ByteBuffer}, the other on
+ * {@code java.nio.ByteBuffer}, and counts one operation per value read.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ByteBufferBenchmark {
+
+    /** The number of bytes each benchmark works on, a power of two. */
+    static final int SIZE = 4096;
+
+    @Param({"BIG_ENDIAN", "LITTLE_ENDIAN"})
+    public String order;
+
+    private org.gwtproject.nio.emul.ByteBuffer emulation;
+    private java.nio.ByteBuffer jdk;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        boolean bigEndian = "BIG_ENDIAN".equals(order);
+        emulation = org.gwtproject.nio.emul.ByteBuffer.allocateDirect(SIZE)
+            .order(bigEndian ? org.gwtproject.nio.emul.ByteOrder.BIG_ENDIAN : org.gwtproject.nio.emul.ByteOrder.LITTLE_ENDIAN);
+        jdk = java.nio.ByteBuffer.allocateDirect(SIZE)
+            .order(bigEndian ? java.nio.ByteOrder.BIG_ENDIAN : java.nio.ByteOrder.LITTLE_ENDIAN);
+        int seed = 0x2545F491;
+        for (int i = 0; i < SIZE; i++) {
+            seed ^= seed << 13;
+            seed ^= seed >>> 17;
+            seed ^= seed << 5;
+            emulation.put(i, (byte) seed);
+            jdk.put(i, (byte) seed);
+        }
+        bytes = new byte[SIZE];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int emulationGet() {
+        org.gwtproject.nio.emul.ByteBuffer b = emulation;
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += b.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int jdkGet() {
+        java.nio.ByteBuffer b = jdk;
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += b.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 4)
+    public int emulationGetInt() {
+        org.gwtproject.nio.emul.ByteBuffer b = emulation;
+        int sum = 0;
+        for (int i = 0; i < SIZE; i += 4) {
+            sum += b.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 4)
+    public int jdkGetInt() {
+        java.nio.ByteBuffer b = jdk;
+        int sum = 0;
+        for (int i = 0; i < SIZE; i += 4) {
+            sum += b.getInt(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 8)
+    public long emulationGetLong() {
+        org.gwtproject.nio.emul.ByteBuffer b = emulation;
+        long sum = 0;
+        for (int i = 0; i < SIZE; i += 8) {
+            sum += b.getLong(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 8)
+    public long jdkGetLong() {
+        java.nio.ByteBuffer b = jdk;
+        long sum = 0;
+        for (int i = 0; i < SIZE; i += 8) {
+            sum += b.getLong(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 8)
+    public double emulationGetDouble() {
+        org.gwtproject.nio.emul.ByteBuffer b = emulation;
+        double sum = 0;
+        for (int i = 0; i < SIZE; i += 8) {
+            sum += b.getDouble(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 8)
+    public double jdkGetDouble() {
+        java.nio.ByteBuffer b = jdk;
+        double sum = 0;
+        for (int i = 0; i < SIZE; i += 8) {
+            sum += b.getDouble(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 4)
+    public int emulationIntView() {
+        org.gwtproject.nio.emul.IntBuffer b = emulation.asIntBuffer();
+        int sum = 0;
+        for (int i = 0; i < SIZE / 4; i++) {
+            sum += b.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE / 4)
+    public int jdkIntView() {
+        java.nio.IntBuffer b = jdk.asIntBuffer();
+        int sum = 0;
+        for (int i = 0; i < SIZE / 4; i++) {
+            sum += b.get(i);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] emulationBulkGet() {
+        emulation.clear();
+        emulation.get(bytes);
+        return bytes;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] jdkBulkGet() {
+        jdk.clear();
+        jdk.get(bytes);
+        return bytes;
+    }
+}
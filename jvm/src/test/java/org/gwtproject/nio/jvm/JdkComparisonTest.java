@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.jvm;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Runs the same random sequences of operations on a byte buffer of the emulation and on one of
+ * the JDK, and reports the first operation where the result, the exception thrown or the
+ * position and limit afterwards differ. Pass {@code -Dseed=<n>} to run other sequences.
+ */
+public class JdkComparisonTest {
+
+    private static final int ROUNDS = 2000;
+    private static final int OPERATIONS = 200;
+
+    /** An operation on both kinds of buffer, with the same two random arguments for both. */
+    private static final class Operation {
+        final String name;
+        final EmulationCall emulation;
+        final JdkCall jdk;
+
+        Operation(String name, EmulationCall emulation, JdkCall jdk) {
+            this.name = name;
+            this.emulation = emulation;
+            this.jdk = jdk;
+        }
+    }
+
+    private interface EmulationCall {
+        Object apply(org.gwtproject.nio.emul.ByteBuffer buffer, int a, int b);
+    }
+
+    private interface JdkCall {
+        Object apply(java.nio.ByteBuffer buffer, int a, int b);
+    }
+
+    private static final List<Operation> OPS = new ArrayList<>();
+
+    private static void op(String name, EmulationCall emulation, JdkCall jdk) {
+        OPS.add(new Operation(name, emulation, jdk));
+    }
+
+    static {
+        op("get()", (e, a, b) -> e.get(), (j, a, b) -> j.get());
+        op("get(a)", (e, a, b) -> e.get(a), (j, a, b) -> j.get(a));
+        op("put(b)", (e, a, b) -> e.put((byte) b), (j, a, b) -> j.put((byte) b));
+        op("put(a, b)", (e, a, b) -> e.put(a, (byte) b), (j, a, b) -> j.put(a, (byte) b));
+        op("getChar(a)", (e, a, b) -> e.getChar(a), (j, a, b) -> j.getChar(a));
+        op("putChar(b)", (e, a, b) -> e.putChar((char) b), (j, a, b) -> j.putChar((char) b));
+        op("getShort()", (e, a, b) -> e.getShort(), (j, a, b) -> j.getShort());
+        op("getShort(a)", (e, a, b) -> e.getShort(a), (j, a, b) -> j.getShort(a));
+        op("putShort(b)", (e, a, b) -> e.putShort((short) b), (j, a, b) -> j.putShort((short) b));
+        op("putShort(a, b)", (e, a, b) -> e.putShort(a, (short) b), (j, a, b) -> j.putShort(a, (short) b));
+        op("getInt()", (e, a, b) -> e.getInt(), (j, a, b) -> j.getInt());
+        op("getInt(a)", (e, a, b) -> e.getInt(a), (j, a, b) -> j.getInt(a));
+        op("putInt(b)", (e, a, b) -> e.putInt(b * 0x9E3779B9), (j, a, b) -> j.putInt(b * 0x9E3779B9));
+        op("putInt(a, b)", (e, a, b) -> e.putInt(a, b * 0x9E3779B9), (j, a, b) -> j.putInt(a, b * 0x9E3779B9));
+        op("getLong()", (e, a, b) -> e.getLong(), (j, a, b) -> j.getLong());
+        op("getLong(a)", (e, a, b) -> e.getLong(a), (j, a, b) -> j.getLong(a));
+        op("putLong(b)", (e, a, b) -> e.putLong(b * 0x9E3779B97F4A7C15L), (j, a, b) -> j.putLong(b * 0x9E3779B97F4A7C15L));
+        op("putLong(a, b)", (e, a, b) -> e.putLong(a, b * 0x9E3779B97F4A7C15L), (j, a, b) -> j.putLong(a, b * 0x9E3779B97F4A7C15L));
+        op("getFloat()", (e, a, b) -> e.getFloat(), (j, a, b) -> j.getFloat());
+        op("getFloat(a)", (e, a, b) -> e.getFloat(a), (j, a, b) -> j.getFloat(a));
+        op("putFloat(a, b)", (e, a, b) -> e.putFloat(a, b / 7f), (j, a, b) -> j.putFloat(a, b / 7f));
+        op("getDouble()", (e, a, b) -> e.getDouble(), (j, a, b) -> j.getDouble());
+        op("getDouble(a)", (e, a, b) -> e.getDouble(a), (j, a, b) -> j.getDouble(a));
+        op("putDouble(b)", (e, a, b) -> e.putDouble(b / 3.0), (j, a, b) -> j.putDouble(b / 3.0));
+        op("putDouble(a, b)", (e, a, b) -> e.putDouble(a, b / 3.0), (j, a, b) -> j.putDouble(a, b / 3.0));
+        op("get(byte[a])", (e, a, b) -> Arrays.hashCode(get(e, a)), (j, a, b) -> Arrays.hashCode(get(j, a)));
+        op("put(byte[a])", (e, a, b) -> e.put(bytes(a, b)), (j, a, b) -> j.put(bytes(a, b)));
+        op("put(ByteBuffer)", (e, a, b) -> e.put(e.duplicate().position(Math.max(a, 0)).limit(e.capacity())),
+            (j, a, b) -> j.put(j.duplicate().position(Math.max(a, 0)).limit(j.capacity())));
+        op("position(a)", (e, a, b) -> e.position(a), (j, a, b) -> j.position(a));
+        op("limit(a)", (e, a, b) -> e.limit(a), (j, a, b) -> j.limit(a));
+        op("mark()", (e, a, b) -> e.mark(), (j, a, b) -> j.mark());
+        op("reset()", (e, a, b) -> e.reset(), (j, a, b) -> j.reset());
+        op("flip()", (e, a, b) -> e.flip(), (j, a, b) -> j.flip());
+        op("clear()", (e, a, b) -> e.clear(), (j, a, b) -> j.clear());
+        op("rewind()", (e, a, b) -> e.rewind(), (j, a, b) -> j.rewind());
+        op("compact()", (e, a, b) -> e.compact(), (j, a, b) -> j.compact());
+        op("order(a)", (e, a, b) -> e.order((a & 1) == 0 ? org.gwtproject.nio.emul.ByteOrder.BIG_ENDIAN : org.gwtproject.nio.emul.ByteOrder.LITTLE_ENDIAN),
+            (j, a, b) -> j.order((a & 1) == 0 ? java.nio.ByteOrder.BIG_ENDIAN : java.nio.ByteOrder.LITTLE_ENDIAN));
+        op("hashCode()", (e, a, b) -> e.hashCode(), (j, a, b) -> j.hashCode());
+        op("equals(slice)", (e, a, b) -> e.equals(e.duplicate().position(Math.max(0, Math.min(a, e.limit())))),
+            (j, a, b) -> j.equals(j.duplicate().position(Math.max(0, Math.min(a, j.limit())))));
+        op("compareTo(slice)", (e, a, b) -> Integer.signum(e.compareTo(e.duplicate().position(Math.max(0, Math.min(a, e.limit()))))),
+            (j, a, b) -> Integer.signum(j.compareTo(j.duplicate().position(Math.max(0, Math.min(a, j.limit()))))));
+        op("mismatch(slice)", (e, a, b) -> e.mismatch(e.duplicate().position(Math.max(0, Math.min(a, e.limit())))),
+            (j, a, b) -> j.mismatch(j.duplicate().position(Math.max(0, Math.min(a, j.limit())))));
+        op("slice().get(a)", (e, a, b) -> e.slice().get(a), (j, a, b) -> j.slice().get(a));
+        op("asCharBuffer().get(a)", (e, a, b) -> e.asCharBuffer().get(a), (j, a, b) -> j.asCharBuffer().get(a));
+        op("asShortBuffer().put(a, b)", (e, a, b) -> e.asShortBuffer().put(a, (short) b).get(a),
+            (j, a, b) -> j.asShortBuffer().put(a, (short) b).get(a));
+        op("asIntBuffer().get(a)", (e, a, b) -> e.asIntBuffer().get(a), (j, a, b) -> j.asIntBuffer().get(a));
+        op("asIntBuffer().hashCode()", (e, a, b) -> e.asIntBuffer().hashCode(), (j, a, b) -> j.asIntBuffer().hashCode());
+        op("asLongBuffer().get(a)", (e, a, b) -> e.asLongBuffer().get(a), (j, a, b) -> j.asLongBuffer().get(a));
+        op("asLongBuffer().put(a, b)", (e, a, b) -> e.asLongBuffer().put(a, b * 0x9E3779B97F4A7C15L).get(a),
+            (j, a, b) -> j.asLongBuffer().put(a, b * 0x9E3779B97F4A7C15L).get(a));
+        op("asFloatBuffer().put(a, b)", (e, a, b) -> e.asFloatBuffer().put(a, b / 7f).get(a),
+            (j, a, b) -> j.asFloatBuffer().put(a, b / 7f).get(a));
+        op("asDoubleBuffer().get(a)", (e, a, b) -> e.asDoubleBuffer().get(a), (j, a, b) -> j.asDoubleBuffer().get(a));
+        op("asDoubleBuffer().compact()", (e, a, b) -> e.asDoubleBuffer().compact().position(),
+            (j, a, b) -> j.asDoubleBuffer().compact().position());
+        op("asCharBuffer().compact() at a", (e, a, b) -> compacted(e.asCharBuffer(), a), (j, a, b) -> compacted(j.asCharBuffer(), a));
+        op("asShortBuffer().compact() at a", (e, a, b) -> compacted(e.asShortBuffer(), a), (j, a, b) -> compacted(j.asShortBuffer(), a));
+        op("asIntBuffer().compact() at a", (e, a, b) -> compacted(e.asIntBuffer(), a), (j, a, b) -> compacted(j.asIntBuffer(), a));
+        op("asDoubleBuffer().compact() at a", (e, a, b) -> compacted(e.asDoubleBuffer(), a),
+            (j, a, b) -> compacted(j.asDoubleBuffer(), a));
+    }
+
+    @Test
+    public void behavesLikeTheJdk() {
+        long seed = Long.getLong("seed", 1);
+        Random random = new Random(seed);
+        for (int round = 0; round < ROUNDS; round++) {
+            int capacity = random.nextInt(64);
+            org.gwtproject.nio.emul.ByteBuffer emulation = org.gwtproject.nio.emul.ByteBuffer.allocate(capacity);
+            java.nio.ByteBuffer jdk = java.nio.ByteBuffer.allocate(capacity);
+            List<String> history = new ArrayList<>();
+            for (int i = 0; i < OPERATIONS; i++) {
+                Operation op = OPS.get(random.nextInt(OPS.size()));
+                int a = random.nextInt(capacity + 5) - 2;
+                int b = random.nextInt();
+                Object expected = normalize(run(() -> op.jdk.apply(jdk, a, b)));
+                Object actual = normalize(run(() -> op.emulation.apply(emulation, a, b)));
+                history.add(op.name.replaceAll("\\ba\\b", "a=" + a).replaceAll("\\bb\\b", "b=" + b));
+                String expectedState = state(jdk.position(), jdk.limit(), jdk.order() == java.nio.ByteOrder.BIG_ENDIAN);
+                String actualState = state(emulation.position(), emulation.limit(),
+                    emulation.order() == org.gwtproject.nio.emul.ByteOrder.BIG_ENDIAN);
+                if (!Objects.equals(expected, actual) || !expectedState.equals(actualState)) {
+                    fail(seed, round, capacity, history, expected + " " + expectedState, actual + " " + actualState);
+                }
+            }
+            jdk.clear();
+            emulation.clear();
+            for (int i = 0; i < capacity; i++) {
+                if (jdk.get(i) != emulation.get(i)) {
+                    fail(seed, round, capacity, history, "byte " + i + " = " + jdk.get(i), "byte " + i + " = " + emulation.get(i));
+                }
+            }
+        }
+    }
+
+    private static byte[] get(org.gwtproject.nio.emul.ByteBuffer buffer, int length) {
+        byte[] dest = new byte[Math.max(length, 0)];
+        buffer.get(dest);
+        return dest;
+    }
+
+    private static byte[] get(java.nio.ByteBuffer buffer, int length) {
+        byte[] dest = new byte[Math.max(length, 0)];
+        buffer.get(dest);
+        return dest;
+    }
+
+    /** Compacts from the given position, and returns the position and the hash of all contents. */
+    private static String compacted(org.gwtproject.nio.emul.CharBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(java.nio.CharBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(org.gwtproject.nio.emul.ShortBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(java.nio.ShortBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(org.gwtproject.nio.emul.IntBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(java.nio.IntBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(org.gwtproject.nio.emul.DoubleBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static String compacted(java.nio.DoubleBuffer buffer, int position) {
+        buffer.position(position);
+        buffer.compact();
+        return buffer.position() + " " + buffer.clear().hashCode();
+    }
+
+    private static byte[] bytes(int length, int seed) {
+        byte[] src = new byte[Math.max(length, 0)];
+        new Random(seed).nextBytes(src);
+        return src;
+    }
+
+    private static Object run(java.util.function.Supplier<Object> call) {
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            // the emulation's exceptions live in another package than the JDK's
+            return e.getClass().getSimpleName();
+        }
+    }
+
+    /** Makes results of both implementations comparable, buffers by their state, floats by their bits. */
+    private static Object normalize(Object result) {
+        if (result instanceof java.nio.Buffer) {
+            java.nio.Buffer buffer = (java.nio.Buffer) result;
+            return "buffer " + buffer.position() + "/" + buffer.limit();
+        } else if (result instanceof org.gwtproject.nio.emul.Buffer) {
+            org.gwtproject.nio.emul.Buffer buffer = (org.gwtproject.nio.emul.Buffer) result;
+            return "buffer " + buffer.position() + "/" + buffer.limit();
+        } else if (result instanceof Float) {
+            return "float " + Float.floatToIntBits((Float) result);
+        } else if (result instanceof Double) {
+            return "double " + Double.doubleToLongBits((Double) result);
+        }
+        return result;
+    }
+
+    private static String state(int position, int limit, boolean bigEndian) {
+        return "[position " + position + ", limit " + limit + (bigEndian ? ", BE]" : ", LE]");
+    }
+
+    private static void fail(long seed, int round, int capacity, List<String> history, String expected, String actual) {
+        StringBuilder message = new StringBuilder();
+        message.append("Seed ").append(seed).append(", round ").append(round).append(", capacity ").append(capacity).append(":\n");
+        for (String step : history) {
+            message.append("    ").append(step).append('\n');
+        }
+        message.append("JDK:       ").append(expected).append('\n');
+        message.append("emulation: ").append(actual);
+        Assert.fail(message.toString());
+    }
+}
@@ -45,6 +45,12 @@ public abstract class Buffer {
     /** <code>UNSET_MARK</code> means the mark has not been set. */
     final static int UNSET_MARK = -1;
 
+    /** Whether positions and indices are checked like the JDK does, which is the default. Setting
+     * the {@code gwt.nio.checks} property to {@code unchecked} compiles all of these checks away,
+     * so that reading or writing out of bounds silently returns garbage or corrupts memory. The
+     * same goes for accessing memory that has been transferred, see {@link #checkAttached(int)}. */
+    static final boolean CHECKED = !"unchecked".equals(System.getProperty("gwt.nio.checks", "checked"));
+
     /** The capacity of this buffer, which never change. */
     final int capacity;
 
@@ -60,6 +66,12 @@ public abstract class Buffer {
      * than <code>limit</code>. */
     int position = 0;
 
+    /** The hash code of the elements between {@link #hashPosition} and {@link #hashLimit}. Only
+     * read-only buffers remember it, see {@link #cacheHash(int)}. */
+    private int hash;
+    private int hashPosition = UNSET_MARK;
+    private int hashLimit;
+
     /** Construct a buffer with the specified capacity.
      *
      * @param capacity the capacity of this buffer. */
@@ -71,6 +83,80 @@ public abstract class Buffer {
         this.capacity = this.limit = capacity;
     }
 
+    /** Returns whether {@link #cachedHash()} is the hash code of the current remaining elements. */
+    final boolean hasCachedHash () {
+        return hashPosition == position && hashLimit == limit;
+    }
+
+    final int cachedHash () {
+        return hash;
+    }
+
+    /** Remembers the hash code of the remaining elements if this buffer is read-only and
+     * {@link #hasStableContent()}, so that {@code hashCode()} only has to calculate it again after
+     * the position or limit changed.
+     * <p> Writes made through another buffer that shares the content are not noticed, read-only
+     * buffers are meant for content that no longer changes once it is handed out. </p>
+     *
+     * @param h the hash code of the remaining elements.
+     * @return {@code h}.
+     */
+    final int cacheHash (int h) {
+        if (isReadOnly() && hasStableContent()) {
+            hash = h;
+            hashPosition = position;
+            hashLimit = limit;
+        }
+        return h;
+    }
+
+    /** Returns whether the content of this buffer, if it is read-only, only changes through other
+     * buffers sharing it. Buffers that read from a live source of another kind return
+     * {@code false}, so that their hash code is not cached.
+     *
+     * @return {@code true} for buffers backed by arrays or typed arrays.
+     */
+    boolean hasStableContent () {
+        return true;
+    }
+
+    /** Throws if the memory of this buffer has been transferred away, for example with
+     * {@link org.gwtproject.nio.TypedArrayHelper#transfer(ByteBuffer)} or by posting its
+     * {@code ArrayBuffer} to a worker. Transferring detaches the memory, which leaves every typed
+     * array over it empty.
+     * <p> Like the bounds checks, this check is compiled away unless {@link #CHECKED} is set, so
+     * that element access costs no more than reading the typed array. </p>
+     *
+     * @param length the length of this buffer's typed array.
+     * @exception IllegalStateException if the memory has been transferred.
+     */
+    final void checkAttached (int length) {
+        if (CHECKED && length == 0 && capacity != 0) {
+            throw new IllegalStateException("The memory of this buffer has been transferred");
+        }
+    }
+
+    /** Throws if the element at the given index cannot be read or written, see {@link #CHECKED}.
+     *
+     * @exception IndexOutOfBoundsException if {@code index < 0 || index >= limit}.
+     */
+    final void checkIndex (int index) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
+    /** Throws if the {@code size} elements starting at the given index cannot be read or written,
+     * see {@link #CHECKED}.
+     *
+     * @exception IndexOutOfBoundsException if {@code index < 0 || index > limit - size}.
+     */
+    final void checkIndex (int index, int size) {
+        if (index < 0 || index > limit - size) {
+            throw new IndexOutOfBoundsException();
+        }
+    }
+
     /** Returns the capacity of this buffer.
      *
      * @return the number of elements that are contained in this buffer.
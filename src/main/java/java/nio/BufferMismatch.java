@@ -0,0 +1,147 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package java.nio;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
+import elemental2.core.Int32Array;
+import elemental2.core.Int8Array;
+import org.gwtproject.nio.Elements;
+
+/** Compares and hashes raw buffer memory 32 bits at a time, backing {@code equals},
+ * {@code compareTo}, {@code hashCode} and {@code mismatch} of the buffer classes.
+ */
+final class BufferMismatch {
+
+    /** Below this many bytes, creating the word views costs more than comparing bytes. Callers
+     * with other views than {@code Int8Array} compare shorter ranges element by element, as
+     * {@link #mismatch} creates byte views for them. */
+    static final int WORD_THRESHOLD = 16;
+
+    private BufferMismatch () {
+    }
+
+    /** Finds the first byte that differs between two ranges of typed array memory.
+     * <p> If both ranges start at the same offset of the same {@code ArrayBuffer} they are the
+     * same memory, and no bytes are read at all. </p>
+     *
+     * @param a the first view.
+     * @param aIndex the byte index in {@code a} to start comparing at.
+     * @param b the second view.
+     * @param bIndex the byte index in {@code b} to start comparing at.
+     * @param length the number of bytes to compare.
+     * @return the index, relative to the start of the ranges, of the first differing byte, or -1 if
+     *         the ranges are equal.
+     */
+    static int mismatch (ArrayBufferView a, int aIndex, ArrayBufferView b, int bIndex, int length) {
+        ArrayBuffer aBuffer = a.buffer;
+        ArrayBuffer bBuffer = b.buffer;
+        int aStart = a.byteOffset + aIndex;
+        int bStart = b.byteOffset + bIndex;
+        if (length == 0 || (aBuffer == bBuffer && aStart == bStart)) {
+            return -1;
+        }
+        if (length < WORD_THRESHOLD && a instanceof Int8Array && b instanceof Int8Array) {
+            // byte buffers can be compared through their own views
+            for (int i = 0; i < length; i++) {
+                if (Elements.get((Int8Array) a, aIndex + i) != Elements.get((Int8Array) b, bIndex + i)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        Int8Array aBytes = new Int8Array(aBuffer, aStart, length);
+        Int8Array bBytes = new Int8Array(bBuffer, bStart, length);
+        int i = 0;
+        if (length >= WORD_THRESHOLD) {
+            // compare up to the first word boundary of a, then whole words
+            int head = (4 - (aStart & 3)) & 3;
+            for (; i < head; i++) {
+                if (Elements.get(aBytes, i) != Elements.get(bBytes, i)) {
+                    return i;
+                }
+            }
+            int words = (length - head) >> 2;
+            Int32Array aWords = new Int32Array(aBuffer, aStart + head, words);
+            int w = 0;
+            if (((bStart + head) & 3) == 0) {
+                Int32Array bWords = new Int32Array(bBuffer, bStart + head, words);
+                while (w < words && Elements.get(aWords, w) == Elements.get(bWords, w)) {
+                    w++;
+                }
+            } else {
+                // b is not word aligned, a typed array cannot start there
+                DataView bView = new DataView(bBuffer, bStart + head, words << 2);
+                boolean nativeLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+                while (w < words
+                        && Elements.get(aWords, w) == bView.getInt32(w << 2, nativeLittleEndian)) {
+                    w++;
+                }
+            }
+            // the differing byte, if any, is found below
+            i = head + (w << 2);
+        }
+        for (; i < length; i++) {
+            if (Elements.get(aBytes, i) != Elements.get(bBytes, i)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /** Calculates the JDK hash code of a range of bytes, that is {@code h = 31 * h + b} for every
+     * byte {@code b} from the last one down to the first one, starting from {@code h = 1}.
+     *
+     * @param bytes the bytes to hash.
+     * @param start the index of the first byte to hash.
+     * @param end the index after the last byte to hash.
+     * @return the hash code.
+     */
+    static int hashCode (Int8Array bytes, int start, int end) {
+        int h = 1;
+        if (end - start >= WORD_THRESHOLD) {
+            int offset = bytes.byteOffset;
+            int wordStart = ((offset + start + 3) & ~3) - offset;
+            int wordEnd = ((offset + end) & ~3) - offset;
+            for (int i = end - 1; i >= wordEnd; i--) {
+                h = 31 * h + Elements.get(bytes, i);
+            }
+            Int32Array words = new Int32Array(bytes.buffer, offset + wordStart, (wordEnd - wordStart) >> 2);
+            boolean nativeLittleEndian = ByteOrder.nativeOrder() == ByteOrder.LITTLE_ENDIAN;
+            for (int w = words.length - 1; w >= 0; w--) {
+                // the four bytes of the word as if little endian, highest address first
+                int word = Elements.get(words, w);
+                if (!nativeLittleEndian) {
+                    word = Integer.reverseBytes(word);
+                }
+                h = 923521 * h
+                        + 29791 * (word >> 24)
+                        + 961 * ((word << 8) >> 24)
+                        + 31 * ((word << 16) >> 24)
+                        + ((word << 24) >> 24);
+            }
+            end = wordStart;
+        }
+        for (int i = end - 1; i >= start; i--) {
+            h = 31 * h + Elements.get(bytes, i);
+        }
+        return h;
+    }
+}
@@ -19,8 +19,14 @@ package java.nio;
 
 import elemental2.core.ArrayBuffer;
 import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
 import elemental2.core.Int8Array;
+import elemental2.core.SharedArrayBuffer;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
 import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
 import org.gwtproject.nio.HasArrayBufferView;
 import org.gwtproject.nio.Numbers;
 import org.gwtproject.nio.TypedArrayHelper;
@@ -37,9 +43,42 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
 
     Int8Array byteArray;
 
+    /** Lazily created view used for all multi-byte reads and writes. */
+    private DataView dataView;
+
     /** The byte order of this buffer, default is {@code BIG_ENDIAN}. */
     ByteOrder order = ByteOrder.BIG_ENDIAN;
 
+    /** Mirrors {@link #order}, in the form the {@code DataView} accessors expect. */
+    boolean littleEndian = false;
+
+    /** Whether writes are rejected. Carried over to duplicates, slices and views of this buffer. */
+    boolean readOnly;
+
+    /** Kinds of typed array views, see {@link #cachedView(int)}. */
+    static final int CHAR_VIEW = 1;
+    static final int SHORT_VIEW = 2;
+    static final int INT_VIEW = 3;
+    static final int LONG_VIEW = 4;
+    static final int FLOAT_VIEW = 5;
+    static final int DOUBLE_VIEW = 6;
+
+    /** The typed array behind the view most recently returned by an {@code asXxxBuffer()} method,
+     * with the kind of view and the range of this buffer it was created for. */
+    private ArrayBufferView cachedView;
+    private int cachedViewKind;
+    private int cachedViewPosition;
+    private int cachedViewLimit;
+
+    /** Where this buffer starts in its memory. A detached typed array no longer knows its offset,
+     * so it is kept for {@link #adoptArrayBuffer(ArrayBuffer)}, also for slices and duplicates of a
+     * buffer that was transferred. */
+    private final int memoryOffset;
+
+    /** Whether {@link #transferArrayBuffer()} handed the memory over, which may only detach it once
+     * the memory is posted. */
+    private boolean transferred;
+
     /** Creates a byte buffer based on a newly allocated byte array.
      *
      * @param capacity the capacity of the new buffer
@@ -58,10 +97,17 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @throws IllegalArgumentException if {@code capacity < 0}.
      */
     public static ByteBuffer allocateDirect (int capacity) {
+        return allocateDirect(capacity, BufferMetrics.BYTE);
+    }
+
+    /** Allocates the memory of a buffer of the given type, see {@link BufferMetrics}. */
+    static ByteBuffer allocateDirect (int capacity, int type) {
         if (capacity < 0) {
             throw new IllegalArgumentException();
         }
-        return new ByteBuffer(capacity);
+        ByteBuffer buffer = new ByteBuffer(capacity);
+        BufferMetrics.allocated(type, buffer.byteArray.buffer);
+        return buffer;
     }
 
     public static ByteBuffer wrapArrayBuffer(ArrayBuffer arrayBuffer) {
@@ -70,10 +116,74 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
     public static ByteBuffer wrapArrayBuffer(ArrayBuffer arrayBuffer, int capacity, int offset) {
         return new ByteBuffer(arrayBuffer, capacity, offset);
     }
+    /** Wraps a {@code SharedArrayBuffer}, so that the buffer's content can be shared with workers. */
+    public static ByteBuffer wrapArrayBuffer(SharedArrayBuffer arrayBuffer) {
+        return new ByteBuffer(Js.<ArrayBuffer>uncheckedCast(arrayBuffer));
+    }
+    public static ByteBuffer wrapArrayBuffer(SharedArrayBuffer arrayBuffer, int capacity, int offset) {
+        return new ByteBuffer(Js.<ArrayBuffer>uncheckedCast(arrayBuffer), capacity, offset);
+    }
     public ByteBuffer wrap(ArrayBuffer arrayBuffer) {
         return new ByteBuffer(arrayBuffer);
     }
 
+    /** Hands the memory of this buffer over, see {@link TypedArrayHelper#transfer(ByteBuffer)}. */
+    public ArrayBuffer transferArrayBuffer () {
+        if (isDetached()) {
+            throw new IllegalStateException("The memory of this buffer has been transferred");
+        }
+        ArrayBuffer memory = byteArray.buffer;
+        transferred = true;
+        if ("function".equals(Js.typeof(Js.asPropertyMap(memory).get("transfer")))) {
+            // moves the memory into a new ArrayBuffer and detaches this one, and every view over it
+            return Js.<TransferableArrayBuffer>uncheckedCast(memory).transfer();
+        }
+        // detached when it is posted as a transferable
+        return memory;
+    }
+
+    /** Takes memory back that was handed over before, see
+     * {@link TypedArrayHelper#adopt(ByteBuffer, ArrayBuffer)}. */
+    public ByteBuffer adoptArrayBuffer (ArrayBuffer memory) {
+        if (!transferred && !isDetached()) {
+            throw new IllegalStateException("The memory of this buffer has not been transferred");
+        }
+        if (memory.byteLength < memoryOffset + capacity) {
+            throw new IllegalArgumentException();
+        }
+        byteArray = new Int8Array(memory, memoryOffset, capacity);
+        dataView = null;
+        cachedView = null;
+        transferred = false;
+        return this;
+    }
+
+    /** Returns whether the memory of this buffer has been detached, which leaves the typed array
+     * over it empty. Unlike {@link #checkAttached(int)} this is not subject to {@link #CHECKED}. */
+    private boolean isDetached () {
+        return capacity != 0 && byteArray.length == 0;
+    }
+
+    /** Returns the typed array cached for the given kind of view if it covers exactly the remaining
+     * bytes of this buffer, or {@code null}. A typed array has a fixed range and no position of its
+     * own, so repeated {@code asXxxBuffer()} calls over the same range can share one. */
+    final ArrayBufferView cachedView (int kind) {
+        if (cachedView != null && cachedViewKind == kind && cachedViewPosition == position
+                && cachedViewLimit == limit) {
+            return cachedView;
+        }
+        return null;
+    }
+
+    /** Remembers the typed array created for a view of the remaining bytes, see
+     * {@link #cachedView(int)}. */
+    final void cacheView (int kind, ArrayBufferView view) {
+        cachedView = view;
+        cachedViewKind = kind;
+        cachedViewPosition = position;
+        cachedViewLimit = limit;
+    }
+
     static ByteBuffer copy (ByteBuffer other, int markOfOther) {
         ByteBuffer buf = new ByteBuffer(
                 other.byteArray.buffer, other.capacity(),
@@ -82,6 +192,7 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
         buf.position = other.position();
         buf.mark = markOfOther;
         buf.order(other.order());
+        buf.readOnly = other.readOnly;
         return buf;
     }
 
@@ -95,38 +206,60 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
     ByteBuffer (ArrayBuffer buf) {
         super((int)buf.byteLength);
         byteArray = new Int8Array(buf);
+        memoryOffset = 0;
     }
 
     ByteBuffer (ArrayBuffer buffer, int capacity, int offset) {
         super(capacity);
         byteArray = new Int8Array(buffer, offset, capacity);
+        memoryOffset = offset;
     }
 
-//    /** Returns a char buffer which is based on the remaining content of this byte buffer.
-//     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
-//     * bytes divided by two, and its mark is not set. The new buffer's read-only property and byte
-//     * order are the same as this buffer's. The new buffer is direct if this byte buffer is direct.
-//     * </p>
-//     * <p> The new buffer shares its content with this buffer, which means either buffer's change
-//     * of content will be visible to the other. The two buffer's position, limit and mark are
-//     * independent. </p>
-//     *
-//     * @return a char buffer which is based on the content of this byte buffer.
-//     */
-//    public abstract CharBuffer asCharBuffer ();
-//
-//    /** Returns a double buffer which is based on the remaining content of this byte buffer.
-//     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
-//     * bytes divided by eight, and its mark is not set. The new buffer's read-only property and
-//     * byte order are the same as this buffer's. The new buffer is direct if this byte buffer is
-//     * direct. </p>
-//     * <p> The new buffer shares its content with this buffer, which means either buffer's change
-//     * of content will be visible to the other. The two buffer's position, limit and mark are
-//     * independent. </p>
-//     *
-//     * @return a double buffer which is based on the content of this byte buffer.
-//     */
-//    public abstract DoubleBuffer asDoubleBuffer ();
+    /** Returns a read-only buffer that shares its content with this buffer.
+     * <p> The returned buffer is guaranteed to be a new instance, even if this buffer is read-only
+     * itself. The new buffer's position, limit, capacity, mark and byte order are the same as this
+     * buffer's. </p>
+     * <p> The new buffer shares its content with this buffer, which means this buffer's change of
+     * content will be visible to the new buffer. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a read-only version of this buffer.
+     */
+    public ByteBuffer asReadOnlyBuffer () {
+        ByteBuffer buf = copy(this, mark);
+        buf.readOnly = true;
+        return buf;
+    }
+
+    /** Returns a char buffer which is based on the remaining content of this byte buffer.
+     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
+     * bytes divided by two, and its mark is not set. The new buffer's read-only property and byte
+     * order are the same as this buffer's. The new buffer is direct if this byte buffer is direct.
+     * </p>
+     * <p> The new buffer shares its content with this buffer, which means either buffer's change
+     * of content will be visible to the other. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a char buffer which is based on the content of this byte buffer.
+     */
+    public CharBuffer asCharBuffer () {
+        return CharToByteBufferAdapter.wrap(this);
+    }
+
+    /** Returns a double buffer which is based on the remaining content of this byte buffer.
+     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
+     * bytes divided by eight, and its mark is not set. The new buffer's read-only property and
+     * byte order are the same as this buffer's. The new buffer is direct if this byte buffer is
+     * direct. </p>
+     * <p> The new buffer shares its content with this buffer, which means either buffer's change
+     * of content will be visible to the other. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a double buffer which is based on the content of this byte buffer.
+     */
+    public DoubleBuffer asDoubleBuffer () {
+        return DoubleBuffer.wrap(this);
+    }
 
     /** Returns a float buffer which is based on the remaining content of this byte buffer.
      * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
@@ -155,24 +288,23 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @return a int buffer which is based on the content of this byte buffer.
      */
     public IntBuffer asIntBuffer () {
-        if (order() != ByteOrder.nativeOrder()) {
-            throw new RuntimeException("Native order supported only.");
-        }
         return IntBuffer.wrap(this);
     }
 
-//    /** Returns a long buffer which is based on the remaining content of this byte buffer.
-//     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
-//     * bytes divided by eight, and its mark is not set. The new buffer's read-only property and
-//     * byte order are the same as this buffer's. The new buffer is direct if this byte buffer is
-//     * direct. </p>
-//     * <p> The new buffer shares its content with this buffer, which means either buffer's change
-//     * of content will be visible to the other. The two buffer's position, limit and mark are
-//     * independent. </p>
-//     *
-//     * @return a long buffer which is based on the content of this byte buffer.
-//     */
-//    public abstract LongBuffer asLongBuffer ();
+    /** Returns a long buffer which is based on the remaining content of this byte buffer.
+     * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
+     * bytes divided by eight, and its mark is not set. The new buffer's read-only property and
+     * byte order are the same as this buffer's. The new buffer is direct if this byte buffer is
+     * direct. </p>
+     * <p> The new buffer shares its content with this buffer, which means either buffer's change
+     * of content will be visible to the other. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a long buffer which is based on the content of this byte buffer.
+     */
+    public LongBuffer asLongBuffer () {
+        return LongBuffer.wrap(this);
+    }
 
     /** Returns a short buffer which is based on the remaining content of this byte buffer.
      * <p> The new buffer's position is zero, its limit and capacity is the number of remaining
@@ -186,9 +318,6 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @return a short buffer which is based on the content of this byte buffer.
      */
     public ShortBuffer asShortBuffer () {
-        if (order() != ByteOrder.nativeOrder()) {
-            throw new RuntimeException("Native order supported only.");
-        }
         return ShortBuffer.wrap(this);
     }
 
@@ -201,14 +330,10 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer compact () {
-        // System.arraycopy(backingArray, position + offset, backingArray, offset,
-        // remaining());
-
-        int rem = remaining();
-        for (int i = 0; i < rem; i++) {
-            byteArray.setAt(i, byteArray.getAt(position + i));
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
         }
-
+        byteArray.copyWithin(0, position, limit);
         position = limit - position;
         limit = capacity;
         mark = UNSET_MARK;
@@ -223,20 +348,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ClassCastException if {@code other} is not a byte buffer.
      */
     public int compareTo (ByteBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        byte thisByte, otherByte;
-        while (compareRemaining > 0) {
-            thisByte = get(thisPos);
-            otherByte = otherBuffer.get(otherPos);
-            if (thisByte != otherByte) {
-                return thisByte < otherByte ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Byte.compare(get(position + i), otherBuffer.get(otherBuffer.position + i));
         }
         return remaining() - otherBuffer.remaining();
     }
@@ -264,6 +378,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @return {@code true} if this byte buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof ByteBuffer)) {
             return false;
         }
@@ -272,15 +389,7 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the byte at the current position and increases the position by 1.
@@ -289,10 +398,11 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
     public final byte get () {
-// if (position == limit) {
-// throw new BufferUnderflowException();
-// }
-        return (byte)(double) byteArray.getAt(position++);
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(byteArray.length);
+        return Elements.get(byteArray, position++);
     }
     /** Reads bytes from the current position into the specified byte array and increases the
      * position by the number of bytes read.
@@ -322,16 +432,19 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public final ByteBuffer get (byte[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
+        checkAttached(byteArray.length);
 
-        for (int i = 0; i < len; i++) {
-            dest[i + off] = get(position + i);
-        }
+        boolean measured = BufferMetrics.measureStart("ByteBuffer.get(byte[])", len);
+        BufferMetrics.elementLoop(len);
+        // a single pass, typed array elements are already in byte range
+        Elements.copy(byteArray, position, dest, off, len);
+        BufferMetrics.measureEnd("ByteBuffer.get(byte[])", measured);
 
         position += len;
         return this;
@@ -344,10 +457,11 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if index is invalid.
      */
     public final byte get (int index) {
-// if (index < 0 || index >= limit) {
-// throw new IndexOutOfBoundsException();
-// }
-        return (byte)(double) byteArray.getAt(index);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(byteArray.length);
+        return Elements.get(byteArray, index);
     }
 
     /** Returns the char at the current position and increases the position by 2.
@@ -382,9 +496,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public final double getDouble () {
         int newPosition = position() + 8;
-//if (newPosition > limit) {
-//throw new BufferUnderflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferUnderflowException();
+        }
 
         double value = getDouble(position());
         position = newPosition;
@@ -400,7 +514,10 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if {@code index} is invalid.
      */
     public final double getDouble (int index) {
-        return Numbers.readDoubleBytes(byteArray, index, order);
+        if (CHECKED) {
+            checkIndex(index, 8);
+        }
+        return dataView().getFloat64(index, littleEndian);
     }
 
     /** Returns the float at the current position and increases the position by 4.
@@ -411,7 +528,13 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception BufferUnderflowException if the position is greater than {@code limit - 4}.
      */
     public final float getFloat () {
-        return Numbers.intBitsToFloat(getInt());
+        int newPosition = position + 4;
+        if (CHECKED && newPosition > limit) {
+            throw new BufferUnderflowException();
+        }
+        float result = getFloat(position);
+        position = newPosition;
+        return result;
     }
 
     /** Returns the float at the specified index.
@@ -423,7 +546,10 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if {@code index} is invalid.
      */
     public final float getFloat (int index) {
-        return Numbers.intBitsToFloat(getInt(index));
+        if (CHECKED) {
+            checkIndex(index, 4);
+        }
+        return (float) dataView().getFloat32(index, littleEndian);
     }
 
     /** Returns the int at the current position and increases the position by 4.
@@ -435,9 +561,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public final int getInt () {
         int newPosition = position + 4;
-//if (newPosition > limit) {
-//throw new BufferUnderflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferUnderflowException();
+        }
         int result = getInt(position);
         position = newPosition;
         return result;
@@ -452,19 +578,10 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if {@code index} is invalid.
      */
     public final int getInt (int index) {
-        int bytes = 0;
-        if (order == ByteOrder.BIG_ENDIAN) {
-            for (int i = 0; i < 4; i++) {
-                bytes = bytes << 8;
-                bytes = bytes | (((byte)(double)byteArray.getAt(index + i)) & 0xFF);
-            }
-        } else {
-            for (int i = 3; i >= 0; i--) {
-                bytes = bytes << 8;
-                bytes = bytes | (((byte)(double)byteArray.getAt(index + i)) & 0xFF);
-            }
+        if (CHECKED) {
+            checkIndex(index, 4);
         }
-        return bytes;
+        return dataView().getInt32(index, littleEndian);
     }
 
     /** Returns the long at the current position and increases the position by 8.
@@ -476,9 +593,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public final long getLong () {
         int newPosition = position + 8;
-//if (newPosition > limit) {
-//throw new BufferUnderflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferUnderflowException();
+        }
         long result = getLong(position);
         position = newPosition;
         return result;
@@ -493,19 +610,19 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if {@code index} is invalid.
      */
     public final long getLong (int baseOffset) {
-        long bytes = 0;
-        if (order == ByteOrder.BIG_ENDIAN) {
-            for (int i = 0; i < 8; i++) {
-                bytes = bytes << 8;
-                bytes = bytes | (((byte)(double)byteArray.getAt(baseOffset + i)) & 0xFF);
-            }
+        if (CHECKED) {
+            checkIndex(baseOffset, 8);
+        }
+        DataView view = dataView();
+        int hi, lo;
+        if (littleEndian) {
+            lo = view.getInt32(baseOffset, true);
+            hi = view.getInt32(baseOffset + 4, true);
         } else {
-            for (int i = 7; i >= 0; i--) {
-                bytes = bytes << 8;
-                bytes = bytes | (((byte)(double) byteArray.getAt(baseOffset + i)) & 0xFF);
-            }
+            hi = view.getInt32(baseOffset, false);
+            lo = view.getInt32(baseOffset + 4, false);
         }
-        return bytes;
+        return Numbers.toLong(hi, lo);
     }
 
     /** Returns the short at the current position and increases the position by 2.
@@ -517,9 +634,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public final short getShort () {
         int newPosition = position + 2;
-//if (newPosition > limit) {
-//throw new BufferUnderflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferUnderflowException();
+        }
         short result = getShort(position);
         position = newPosition;
         return result;
@@ -534,29 +651,41 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception IndexOutOfBoundsException if {@code index} is invalid.
      */
     public final short getShort (int baseOffset) {
-        short bytes = 0;
-        if (order == ByteOrder.BIG_ENDIAN) {
-            bytes = (short)(((byte) (double) byteArray.getAt(baseOffset)) << 8);
-            bytes |= (((byte) (double) byteArray.getAt(baseOffset + 1)) & 0xFF);
-        } else {
-            bytes = (short) (((byte) (double) byteArray.getAt(baseOffset + 1)) << 8);
-            bytes |= (((byte) (double) byteArray.getAt(baseOffset)) & 0xFF);
+        if (CHECKED) {
+            checkIndex(baseOffset, 2);
         }
-        return bytes;
+        return (short) dataView().getInt16(baseOffset, littleEndian);
     }
 
-    /** Calculates this buffer's hash code from the remaining chars. The position, limit, capacity
+    /** Calculates this buffer's hash code from the remaining bytes. The position, limit, capacity
      * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + get(i)} for every index from
+     * {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
      *
      * @return the hash code calculated from the remaining bytes.
      */
     public int hashCode () {
-        int myPosition = position;
-        int hash = 0;
-        while (myPosition < limit) {
-            hash = hash + get(myPosition++);
+        if (hasCachedHash()) {
+            return cachedHash();
         }
-        return hash;
+        return cacheHash(BufferMismatch.hashCode(byteArray, position, limit));
+    }
+
+    /** Finds and returns the relative index of the first mismatch between this buffer and another
+     * buffer. The remaining bytes of both buffers are compared, a word at a time where possible.
+     *
+     * @param that the byte buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining bytes are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (ByteBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        int i = BufferMismatch.mismatch(byteArray, position, that.byteArray, that.position, length);
+        if (i >= 0) {
+            return i;
+        }
+        return remaining() == that.remaining() ? -1 : length;
     }
 
     @Override
@@ -613,7 +742,11 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @see ByteOrder
      */
     public final ByteBuffer order (ByteOrder byteOrder) {
+        if (byteOrder == null) {
+            byteOrder = ByteOrder.LITTLE_ENDIAN;
+        }
         order = byteOrder;
+        littleEndian = byteOrder == ByteOrder.LITTLE_ENDIAN;
         return this;
     }
 
@@ -625,10 +758,14 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer put (byte b) {
-        // if (position == limit) {
-        // throw new BufferOverflowException();
-        // }
-        byteArray.setAt(position++, (double) b);
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(byteArray.length);
+        Elements.set(byteArray, position++, b);
         return this;
     }
 
@@ -660,16 +797,20 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public ByteBuffer put (byte[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || off + len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = 0; i < len; i++) {
-            byteArray.setAt(i + position, (double)src[off + i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
         }
+        checkAttached(byteArray.length);
+        boolean measured = BufferMetrics.measureStart("ByteBuffer.put(byte[])", len);
+        Elements.copy(src, off, byteArray, position, len);
+        BufferMetrics.measureEnd("ByteBuffer.put(byte[])", measured);
         position += len;
         return this;
     }
@@ -688,12 +829,24 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        byte[] contents = new byte[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(byteArray.length);
+        src.checkAttached(src.byteArray.length);
+        int len = src.remaining();
+        boolean measured = BufferMetrics.measureStart("ByteBuffer.put(ByteBuffer)", len);
+        // set() copies through a temporary if both views share the same ArrayBuffer
+        if (BufferMetrics.ENABLED && byteArray.buffer == src.byteArray.buffer) {
+            BufferMetrics.temporaryCopy(len);
+        }
+        byteArray.set(src.byteArray.<Int8Array>subarray(src.position, src.limit), position);
+        BufferMetrics.measureEnd("ByteBuffer.put(ByteBuffer)", measured);
+        src.position += len;
+        position += len;
         return this;
     }
 
@@ -706,10 +859,14 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer put (int index, byte b) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        byteArray.setAt(index, (double) b);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(byteArray.length);
+        Elements.set(byteArray, index, b);
         return this;
     }
 
@@ -754,9 +911,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public ByteBuffer putDouble (double value) {
         int newPosition = position() + 8;
-//if (newPosition > limit) {
-//throw new BufferOverflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferOverflowException();
+        }
         putDouble(position(), value);
         position = newPosition;
         return this;
@@ -774,7 +931,13 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer putDouble (int index, double value) {
-        Numbers.writeDoubleBytes(byteArray, index, value, order);
+        if (CHECKED) {
+            checkIndex(index, 8);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        dataView().setFloat64(index, value, littleEndian);
         return this;
     }
 
@@ -789,7 +952,13 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer putFloat (float value) {
-        return putInt(Numbers.floatToIntBits(value));
+        int newPosition = position + 4;
+        if (CHECKED && newPosition > limit) {
+            throw new BufferOverflowException();
+        }
+        putFloat(position, value);
+        position = newPosition;
+        return this;
     }
 
     /** Writes the given float to the specified index of this buffer.
@@ -804,7 +973,14 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ByteBuffer putFloat (int index, float value) {
-        return putInt(index, Numbers.floatToIntBits(value));
+        if (CHECKED) {
+            checkIndex(index, 4);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        dataView().setFloat32(index, value, littleEndian);
+        return this;
     }
 
     /** Writes the given int to the current position and increases the position by 4.
@@ -819,9 +995,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public ByteBuffer putInt (int value) {
         int newPosition = position + 4;
-//if (newPosition > limit) {
-//throw new BufferOverflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferOverflowException();
+        }
         putInt(position, value);
         position = newPosition;
         return this;
@@ -839,17 +1015,13 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public final ByteBuffer putInt (int baseOffset, int value) {
-        if (order == ByteOrder.BIG_ENDIAN) {
-            for (int i = 3; i >= 0; i--) {
-                byteArray.setAt(baseOffset + i, (double)(value & 0xFF));
-                value = value >> 8;
-            }
-        } else {
-            for (int i = 0; i <= 3; i++) {
-                byteArray.setAt(baseOffset + i, (double)(value & 0xFF));
-                value = value >> 8;
-            }
+        if (CHECKED) {
+            checkIndex(baseOffset, 4);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
         }
+        dataView().setInt32(baseOffset, value, littleEndian);
         return this;
     }
 
@@ -865,9 +1037,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public ByteBuffer putLong (long value) {
         int newPosition = position + 8;
-//if (newPosition > limit) {
-//throw new BufferOverflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferOverflowException();
+        }
         putLong(position, value);
         position = newPosition;
         return this;
@@ -885,16 +1057,21 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public final ByteBuffer putLong (int baseOffset, long value) {
-        if (order == ByteOrder.BIG_ENDIAN) {
-            for (int i = 7; i >= 0; i--) {
-                byteArray.setAt(baseOffset + i, (double) (byte) (value & 0xFF));
-                value = value >> 8;
-            }
+        if (CHECKED) {
+            checkIndex(baseOffset, 8);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        DataView view = dataView();
+        int hi = (int) (value >>> 32);
+        int lo = (int) value;
+        if (littleEndian) {
+            view.setInt32(baseOffset, lo, true);
+            view.setInt32(baseOffset + 4, hi, true);
         } else {
-            for (int i = 0; i <= 7; i++) {
-                byteArray.setAt(baseOffset + i, (double) (byte) (value & 0xFF));
-                value = value >> 8;
-            }
+            view.setInt32(baseOffset, hi, false);
+            view.setInt32(baseOffset + 4, lo, false);
         }
         return this;
     }
@@ -909,9 +1086,9 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      */
     public ByteBuffer putShort (short value) {
         int newPosition = position + 2;
-//if (newPosition > limit) {
-//throw new BufferOverflowException();
-//}
+        if (CHECKED && newPosition > limit) {
+            throw new BufferOverflowException();
+        }
         putShort(position, value);
         position = newPosition;
         return this;
@@ -928,13 +1105,13 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public final ByteBuffer putShort(int baseOffset, short value) {
-        if (order == ByteOrder.BIG_ENDIAN) {
-            byteArray.setAt(baseOffset, (double) (byte) ((value >> 8) & 0xFF));
-            byteArray.setAt(baseOffset + 1, (double) (byte) (value & 0xFF));
-        } else {
-            byteArray.setAt(baseOffset + 1, (double)(byte) ((value >> 8) & 0xFF));
-            byteArray.setAt(baseOffset, (double)(byte) (value & 0xFF));
+        if (CHECKED) {
+            checkIndex(baseOffset, 2);
         }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        dataView().setInt16(baseOffset, value, littleEndian);
         return this;
     }
 
@@ -952,10 +1129,73 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
     public ByteBuffer slice () {
         ByteBuffer slice = new ByteBuffer(
                 byteArray.buffer, remaining(), ((int)byteArray.byteOffset) + position);
-        slice.order = order;
+        slice.order(order);
+        slice.readOnly = readOnly;
+        return slice;
+    }
+
+    /** Returns the memory address, modulo the given unit size, of the byte at the given index.
+     * <p> The address is the byte's offset in the {@code ArrayBuffer} this buffer is based on,
+     * which always starts at an address aligned to any unit size. A view buffer returned by
+     * {@code asXxxBuffer()} is backed by a typed array if the position is aligned to the size of
+     * its elements, and reads and writes its elements through a {@code DataView} otherwise. </p>
+     *
+     * @param index the index to query, which may be greater than the limit.
+     * @param unitSize the unit size in bytes, a power of two.
+     * @return the index's address modulo the unit size.
+     * @exception IllegalArgumentException if the index is negative or the unit size is not a power
+     *            of two.
+     */
+    public final int alignmentOffset (int index, int unitSize) {
+        if (index < 0) {
+            throw new IllegalArgumentException("Index less than zero: " + index);
+        }
+        if (unitSize < 1 || (unitSize & (unitSize - 1)) != 0) {
+            throw new IllegalArgumentException("Unit size not a power of two: " + unitSize);
+        }
+        return (byteArray.byteOffset + index) & (unitSize - 1);
+    }
+
+    /** Returns a sliced buffer of the largest range of the remaining bytes whose start and end are
+     * both aligned to the given unit size.
+     * <p> If there is no such range, the returned buffer is empty. Like for {@link #slice()}, its
+     * byte order and read-only property are the same as this buffer's. Views of the returned
+     * buffer are always backed by typed arrays for element sizes up to the unit size. </p>
+     *
+     * @param unitSize the unit size in bytes, a power of two.
+     * @return the sliced buffer.
+     * @exception IllegalArgumentException if the unit size is not a power of two.
+     */
+    public final ByteBuffer alignedSlice (int unitSize) {
+        int pos = position;
+        int lim = limit;
+        int posMod = alignmentOffset(pos, unitSize);
+        int limMod = alignmentOffset(lim, unitSize);
+        int alignedPos = posMod > 0 ? pos + (unitSize - posMod) : pos;
+        int alignedLim = lim - limMod;
+        if (alignedPos > lim || alignedLim < pos) {
+            alignedPos = alignedLim = pos;
+        }
+        ByteBuffer slice = new ByteBuffer(
+                byteArray.buffer, alignedLim - alignedPos, byteArray.byteOffset + alignedPos);
+        slice.order(order);
+        slice.readOnly = readOnly;
         return slice;
     }
 
+    /** Returns the {@code DataView} over this buffer's bytes, creating it on first use. */
+    DataView dataView () {
+        checkAttached(byteArray.length);
+        if (BufferMetrics.ENABLED && order != ByteOrder.nativeOrder()) {
+            BufferMetrics.dataViewAccess(1);
+        }
+        DataView view = dataView;
+        if (view == null) {
+            view = dataView = new DataView(byteArray.buffer, byteArray.byteOffset, capacity);
+        }
+        return view;
+    }
+
     /** Returns a string representing the state of this byte buffer.
      *
      * @return a string representing the state of this byte buffer.
@@ -992,11 +1232,16 @@ public final class ByteBuffer extends Buffer implements Comparable<ByteBuffer>,
     }
 
     public boolean isReadOnly() {
-        return false;
+        return readOnly;
     }
 
     @Override
     public final byte[] array() {
         return (byte[]) super.array();
     }
+
+    @JsType(isNative = true, name = "ArrayBuffer", namespace = JsPackage.GLOBAL)
+    private static class TransferableArrayBuffer {
+        native ArrayBuffer transfer ();
+    }
 }
@@ -0,0 +1,231 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package java.nio;
+
+/** A char buffer that reads and writes a {@code char[]}, without copying it.
+ * <p> This is the implementation behind {@link CharBuffer#wrap(char[])}. Unlike the other
+ * buffers of this package it is not direct, and has an accessible array unless it is read-only.
+ * </p>
+ */
+final class CharArrayAdapter extends CharBuffer {
+
+    /** The wrapped array, index zero of this buffer is index {@link #offset} of the array. */
+    final char[] backingArray;
+
+    final int offset;
+
+    private final boolean readOnly;
+
+    CharArrayAdapter (char[] array, int offset, int capacity, boolean readOnly) {
+        super(capacity);
+        this.backingArray = array;
+        this.offset = offset;
+        this.readOnly = readOnly;
+    }
+
+    private CharArrayAdapter copy (boolean readOnly) {
+        CharArrayAdapter buf = new CharArrayAdapter(backingArray, offset, capacity, readOnly);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
+
+    @Override
+    public CharBuffer asReadOnlyBuffer () {
+        return copy(true);
+    }
+
+    @Override
+    public CharBuffer compact () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        System.arraycopy(backingArray, offset + position, backingArray, offset, remaining());
+        position = limit - position;
+        limit = capacity;
+        mark = UNSET_MARK;
+        return this;
+    }
+
+    @Override
+    public CharBuffer duplicate () {
+        return copy(readOnly);
+    }
+
+    @Override
+    public char get () {
+        if (position == limit) {
+            throw new BufferUnderflowException();
+        }
+        return backingArray[offset + position++];
+    }
+
+    @Override
+    public char get (int index) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+        return backingArray[offset + index];
+    }
+
+    @Override
+    public CharBuffer get (char[] dest, int off, int len) {
+        int length = dest.length;
+        if ((off < 0) || (len < 0) || off > length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        System.arraycopy(backingArray, offset + position, dest, off, len);
+        position += len;
+        return this;
+    }
+
+    @Override
+    public boolean isReadOnly () {
+        return readOnly;
+    }
+
+    @Override
+    public ByteOrder order () {
+        return ByteOrder.nativeOrder();
+    }
+
+    @Override
+    public CharBuffer put (char c) {
+        if (position == limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        backingArray[offset + position++] = c;
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (int index, char c) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        backingArray[offset + index] = c;
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (char[] src, int off, int len) {
+        if ((off < 0) || (len < 0) || off > src.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        System.arraycopy(src, off, backingArray, offset + position, len);
+        position += len;
+        return this;
+    }
+
+    /** Reads the remaining chars of {@code src} straight into the array. */
+    @Override
+    public CharBuffer put (CharBuffer src) {
+        if (src == this) {
+            throw new IllegalArgumentException();
+        }
+        int len = src.remaining();
+        if (len > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        src.get(backingArray, offset + position, len);
+        position += len;
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (String str, int start, int end) {
+        if (start < 0 || end < start || end > str.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (end - start > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        str.getChars(start, end, backingArray, offset + position);
+        position += end - start;
+        return this;
+    }
+
+    @Override
+    public CharBuffer slice () {
+        return new CharArrayAdapter(backingArray, offset + position, remaining(), readOnly);
+    }
+
+    @Override
+    public CharSequence subSequence (int start, int end) {
+        if (start < 0 || end < start || end > remaining()) {
+            throw new IndexOutOfBoundsException();
+        }
+        CharArrayAdapter result = copy(readOnly);
+        result.position = position + start;
+        result.limit = position + end;
+        return result;
+    }
+
+    @Override
+    public String toString () {
+        return String.valueOf(backingArray, offset + position, remaining());
+    }
+
+    @Override
+    public boolean hasArray () {
+        return !readOnly;
+    }
+
+    @Override
+    public int arrayOffset () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        return offset;
+    }
+
+    /** Returns the wrapped array, see {@link CharBuffer#array()}. */
+    char[] writableArray () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        return backingArray;
+    }
+
+    @Override
+    public boolean isDirect () {
+        return false;
+    }
+}
@@ -18,6 +18,7 @@
 package java.nio;
 
 import java.io.IOException;
+import org.gwtproject.nio.BufferMetrics;
 
 /** A buffer of chars.
  * <p> A char buffer can be created in either one of the following ways: </p>
@@ -32,20 +33,93 @@ import java.io.IOException;
 public abstract class CharBuffer extends Buffer
         implements Comparable<CharBuffer>, CharSequence, Appendable {// , Readable {
 
-//    /** Creates a char buffer based on a newly allocated char array.
-//     *
-//     * @param capacity the capacity of the new buffer.
-//     * @return the created char buffer.
-//     * @throws IllegalArgumentException if {@code capacity} is less than zero.
-//     */
-//    public static CharBuffer allocate (int capacity) {
-//        if (capacity < 0) {
-//            throw new IllegalArgumentException();
-//        }
-//        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 2);
-//        bb.order(ByteOrder.nativeOrder());
-//        return bb.asCharBuffer();
-//    }
+    /** Creates a char buffer based on a newly allocated char array.
+     *
+     * @param capacity the capacity of the new buffer.
+     * @return the created char buffer.
+     * @throws IllegalArgumentException if {@code capacity} is less than zero.
+     */
+    public static CharBuffer allocate (int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 2, BufferMetrics.CHAR);
+        bb.order(ByteOrder.nativeOrder());
+        return bb.asCharBuffer();
+    }
+
+    /** Creates a new char buffer by wrapping the given char array.
+     * <p> Calling this method has the same effect as {@code wrap(array, 0, array.length)}. </p>
+     *
+     * @param array the char array which the new buffer will be based on.
+     * @return the created char buffer.
+     */
+    public static CharBuffer wrap (char[] array) {
+        return new CharArrayAdapter(array, 0, array.length, false);
+    }
+
+    /** Creates a new char buffer by wrapping the given char array.
+     * <p> The new buffer's position will be {@code start}, limit will be {@code start + len},
+     * capacity will be the length of the array. The buffer reads and writes the array itself, so
+     * changes to either are visible in the other. Unlike the buffers of {@link #allocate(int)},
+     * it is not direct. </p>
+     *
+     * @param array the char array which the new buffer will be based on.
+     * @param start the start index, must not be negative and not greater than
+     * {@code array.length}.
+     * @param len the length, must not be negative and not greater than
+     * {@code array.length - start}.
+     * @return the created char buffer.
+     * @exception IndexOutOfBoundsException if either {@code start} or {@code len} is invalid.
+     */
+    public static CharBuffer wrap (char[] array, int start, int len) {
+        int length = array.length;
+        if ((start < 0) || (len < 0) || start > length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        CharArrayAdapter result = new CharArrayAdapter(array, 0, length, false);
+        result.position = start;
+        result.limit = start + len;
+        return result;
+    }
+
+    /** Creates a new char buffer by wrapping the given char sequence.
+     * <p> Calling this method has the same effect as {@code wrap(chseq, 0, chseq.length())}. </p>
+     *
+     * @param chseq the char sequence which the new buffer will be based on.
+     * @return the created char buffer.
+     */
+    public static CharBuffer wrap (CharSequence chseq) {
+        return new CharSequenceAdapter(chseq);
+    }
+
+    /** Creates a new char buffer by wrapping the given char sequence.
+     * <p> The new buffer's position will be {@code start}, limit will be {@code end}, capacity
+     * will be the length of the char sequence. The new buffer is read-only, and reads straight
+     * from the sequence rather than from a copy. </p>
+     *
+     * @param chseq the char sequence which the new buffer will be based on.
+     * @param start the start index, must not be negative and not greater than {@code
+     * chseq.length()}.
+     * @param end the end index, must be no less than {@code start} and no greater than {@code
+     * chseq.length()}.
+     * @return the created char buffer.
+     * @exception IndexOutOfBoundsException if either {@code start} or {@code end} is invalid.
+     */
+    public static CharBuffer wrap (CharSequence chseq, int start, int end) {
+        if (chseq == null) {
+            throw new NullPointerException();
+        }
+        if (start < 0 || end < start || end > chseq.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        CharSequenceAdapter result = new CharSequenceAdapter(chseq);
+        result.position = start;
+        result.limit = end;
+        return result;
+    }
 
     /** Constructs a {@code CharBuffer} with given capacity.
      *
@@ -101,20 +175,9 @@ public abstract class CharBuffer extends Buffer
      * @exception ClassCastException if {@code otherBuffer} is not a char buffer.
      */
     public int compareTo (CharBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        char thisByte, otherByte;
-        while (compareRemaining > 0) {
-            thisByte = get(thisPos);
-            otherByte = otherBuffer.get(otherPos);
-            if (thisByte != otherByte) {
-                return thisByte < otherByte ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Character.compare(get(position + i), otherBuffer.get(otherBuffer.position + i));
         }
         return remaining() - otherBuffer.remaining();
     }
@@ -140,6 +203,9 @@ public abstract class CharBuffer extends Buffer
      * @return {@code true} if this char buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof CharBuffer)) {
             return false;
         }
@@ -148,15 +214,7 @@ public abstract class CharBuffer extends Buffer
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the char at the current position and increases the position by 1.
@@ -192,7 +250,7 @@ public abstract class CharBuffer extends Buffer
      */
     public CharBuffer get (char[] dest, int off, int len) {
         int length = dest.length;
-        if ((off < 0) || (len < 0) || (long)off + (long)len > length) {
+        if ((off < 0) || (len < 0) || off > length - len) {
             throw new IndexOutOfBoundsException();
         }
 
@@ -215,16 +273,38 @@ public abstract class CharBuffer extends Buffer
 
     /** Calculates this buffer's hash code from the remaining chars. The position, limit, capacity
      * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + get(i)} for every index from
+     * {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
      *
      * @return the hash code calculated from the remaining chars.
      */
     public int hashCode () {
-        int myPosition = position;
-        int hash = 0;
-        while (myPosition < limit) {
-            hash = hash + get(myPosition++);
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + get(i);
         }
-        return hash;
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining chars of
+     * this buffer and another buffer.
+     *
+     * @param that the char buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining chars are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (CharBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        for (int i = 0; i < length; i++) {
+            if (get(position + i) != that.get(that.position + i)) {
+                return i;
+            }
+        }
+        return remaining() == that.remaining() ? -1 : length;
     }
 
     /** Returns the number of remaining chars.
@@ -280,7 +360,7 @@ public abstract class CharBuffer extends Buffer
      */
     public CharBuffer put (char[] src, int off, int len) {
         int length = src.length;
-        if ((off < 0) || (len < 0) || (long)off + (long)len > length) {
+        if ((off < 0) || (len < 0) || off > length - len) {
             throw new IndexOutOfBoundsException();
         }
 
@@ -307,13 +387,20 @@ public abstract class CharBuffer extends Buffer
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        int len = src.remaining();
+        if (len > remaining()) {
             throw new BufferOverflowException();
         }
 
-        char[] contents = new char[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (src instanceof CharArrayAdapter) {
+            CharArrayAdapter other = (CharArrayAdapter) src;
+            put(other.backingArray, other.offset + other.position, len);
+            other.position += len;
+        } else {
+            for (int i = 0; i < len; i++) {
+                put(src.get());
+            }
+        }
         return this;
     }
 
@@ -485,14 +572,28 @@ public abstract class CharBuffer extends Buffer
             return target.remaining() == 0 ? 0 : -1;
         }
         int result = Math.min(target.remaining(), remaining());
-        char[] chars = new char[result];
-        get(chars);
-        target.put(chars);
+        // target.put(this) picks the fastest copy for both buffer types, limited to what fits
+        int oldLimit = limit;
+        limit = position + result;
+        try {
+            target.put(this);
+        } finally {
+            limit = oldLimit;
+        }
         return result;
     }
 
+    /** Returns the array that backs this buffer, if it wraps one, see {@link #wrap(char[])}.
+     *
+     * @return the wrapped array.
+     * @exception ReadOnlyBufferException if this buffer is read-only.
+     * @exception UnsupportedOperationException if this buffer is not backed by an array.
+     */
     @Override
     public final char[] array() {
+        if (this instanceof CharArrayAdapter) {
+            return ((CharArrayAdapter) this).writableArray();
+        }
         return (char[]) super.array();
     }
 }
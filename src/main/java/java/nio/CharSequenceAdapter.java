@@ -0,0 +1,163 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package java.nio;
+
+/** A read-only char buffer that reads straight from a {@link CharSequence}, without copying it.
+ * <p> This is the implementation behind {@link CharBuffer#wrap(CharSequence)}. </p>
+ */
+final class CharSequenceAdapter extends CharBuffer {
+
+    /** The wrapped sequence, index zero of this buffer is index zero of the sequence. */
+    final CharSequence sequence;
+
+    static CharSequenceAdapter copy (CharSequenceAdapter other) {
+        CharSequenceAdapter buf = new CharSequenceAdapter(other.sequence);
+        buf.limit = other.limit;
+        buf.position = other.position;
+        buf.mark = other.mark;
+        return buf;
+    }
+
+    CharSequenceAdapter (CharSequence chseq) {
+        super(chseq.length());
+        sequence = chseq;
+    }
+
+    /** Only a {@code String} is immutable, any other sequence, like a {@code StringBuilder}, may
+     * change while it is wrapped. */
+    @Override
+    boolean hasStableContent () {
+        return sequence instanceof String;
+    }
+
+    @Override
+    public CharBuffer asReadOnlyBuffer () {
+        return duplicate();
+    }
+
+    @Override
+    public CharBuffer compact () {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public CharBuffer duplicate () {
+        return copy(this);
+    }
+
+    @Override
+    public char get () {
+        if (position == limit) {
+            throw new BufferUnderflowException();
+        }
+        return sequence.charAt(position++);
+    }
+
+    @Override
+    public char get (int index) {
+        if (index < 0 || index >= limit) {
+            throw new IndexOutOfBoundsException();
+        }
+        return sequence.charAt(index);
+    }
+
+    @Override
+    public final CharBuffer get (char[] dest, int off, int len) {
+        int length = dest.length;
+        if ((off < 0) || (len < 0) || off > length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (len > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        int newPosition = position + len;
+        if (sequence instanceof String) {
+            ((String) sequence).getChars(position, newPosition, dest, off);
+        } else {
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = sequence.charAt(position + i);
+            }
+        }
+        position = newPosition;
+        return this;
+    }
+
+    @Override
+    public boolean isReadOnly () {
+        return true;
+    }
+
+    @Override
+    public ByteOrder order () {
+        return ByteOrder.nativeOrder();
+    }
+
+    @Override
+    public CharBuffer put (char c) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public CharBuffer put (int index, char c) {
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public final CharBuffer put (char[] src, int off, int len) {
+        if ((off < 0) || (len < 0) || off > src.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (len > remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public CharBuffer put (String src, int start, int end) {
+        if (start < 0 || end < start || end > src.length()) {
+            throw new IndexOutOfBoundsException();
+        }
+        throw new ReadOnlyBufferException();
+    }
+
+    @Override
+    public CharBuffer slice () {
+        return new CharSequenceAdapter(sequence.subSequence(position, limit));
+    }
+
+    @Override
+    public CharSequence subSequence (int start, int end) {
+        if (end < start || start < 0 || end > remaining()) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        CharSequenceAdapter result = copy(this);
+        result.position = position + start;
+        result.limit = position + end;
+        return result;
+    }
+
+    /** Returns the remaining chars as a string, using the wrapped sequence directly. */
+    @Override
+    public String toString () {
+        return sequence.subSequence(position, limit).toString();
+    }
+}
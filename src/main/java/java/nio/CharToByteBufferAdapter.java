@@ -0,0 +1,361 @@
+/*
+ *  Licensed to the Apache Software Foundation (ASF) under one or more
+ *  contributor license agreements.  See the NOTICE file distributed with
+ *  this work for additional information regarding copyright ownership.
+ *  The ASF licenses this file to You under the Apache License, Version 2.0
+ *  (the "License"); you may not use this file except in compliance with
+ *  the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package java.nio;
+
+import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
+import elemental2.core.Int8Array;
+import elemental2.core.Uint16Array;
+import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
+
+/** A read/write char buffer backed by a {@code Uint16Array} over the memory of a byte buffer.
+ * <p> This is the implementation behind {@link CharBuffer#allocate(int)} and
+ * {@link ByteBuffer#asCharBuffer()}. </p>
+ */
+final class CharToByteBufferAdapter extends CharBuffer implements org.gwtproject.nio.HasArrayBufferView {
+
+    /** Sliced version of the underlying byte buffer, not the underlying byte buffer directly.
+     * {@code null} if the memory is not aligned to the element size. */
+    private final Uint16Array charArray;
+
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
+    static CharBuffer wrap (ByteBuffer byteBuffer) {
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 1) != 0) {
+            // a typed array cannot start there
+            return new CharToByteBufferAdapter(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 1) << 1));
+        }
+        Uint16Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.CHAR_VIEW));
+        if (array == null) {
+            array = new Uint16Array(byteBuffer.byteArray.buffer, byteOffset, byteBuffer.remaining() >> 1);
+            byteBuffer.cacheView(ByteBuffer.CHAR_VIEW, array);
+        }
+        return new CharToByteBufferAdapter(array, byteBuffer.order(), byteBuffer.readOnly, null);
+    }
+
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private CharToByteBufferAdapter (Uint16Array charArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(charArray != null ? charArray.length : dataView.byteLength >> 1);
+        this.charArray = charArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (charArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(charArray.buffer, charArray.byteOffset, charArray.byteLength);
+        }
+        this.readOnly = readOnly;
+    }
+
+    @Override
+    public CharBuffer asReadOnlyBuffer () {
+        CharToByteBufferAdapter buf = new CharToByteBufferAdapter(charArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
+
+    @Override
+    public CharBuffer compact () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (charArray != null) {
+            charArray.copyWithin(0, position, limit);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 1, limit << 1);
+        }
+        position = limit - position;
+        limit = capacity;
+        mark = UNSET_MARK;
+        return this;
+    }
+
+    @Override
+    public CharBuffer duplicate () {
+        CharToByteBufferAdapter buf = new CharToByteBufferAdapter(charArray, order, readOnly, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
+
+    @Override
+    public char get () {
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
+    }
+
+    @Override
+    public CharBuffer get (char[] dest, int off, int len) {
+        int length = dest.length;
+        if (CHECKED && ((off < 0) || (len < 0) || off > length - len)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (CHECKED && len > remaining()) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = (char) dataView.getUint16((position + i) << 1, littleEndian);
+            }
+        } else {
+            BufferMetrics.elementLoop(len);
+            Elements.copy(charArray, position, dest, off, len);
+        }
+        position += len;
+        return this;
+    }
+
+    @Override
+    public char get (int index) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
+    }
+
+    /** Returns the char at the specified index, which the caller has checked. */
+    private char load (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return (char) dataView.getUint16(index << 1, littleEndian);
+        }
+        return Elements.get(charArray, index);
+    }
+
+    /** Compares a word at a time when {@code that} is also backed by a byte buffer of the same
+     * byte order, and there are enough chars to compare. */
+    @Override
+    public int mismatch (CharBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        if (!(that instanceof CharToByteBufferAdapter)
+                || order != ((CharToByteBufferAdapter) that).order
+                || (length << 1) < BufferMismatch.WORD_THRESHOLD) {
+            return super.mismatch(that);
+        }
+        CharToByteBufferAdapter other = (CharToByteBufferAdapter) that;
+        int i = BufferMismatch.mismatch(memory(), position << 1, other.memory(), other.position << 1,
+                length << 1);
+        if (i >= 0) {
+            return i >> 1;
+        }
+        return remaining() == other.remaining() ? -1 : length;
+    }
+
+    @Override
+    public ByteOrder order () {
+        return order;
+    }
+
+    @Override
+    public CharBuffer put (char c) {
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, c);
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (char[] src, int off, int len) {
+        int length = src.length;
+        if (CHECKED && ((off < 0) || (len < 0) || off > length - len)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (CHECKED && len > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dataView.setUint16((position + i) << 1, src[off + i], littleEndian);
+            }
+        } else {
+            Elements.copy(src, off, charArray, position, len);
+        }
+        position += len;
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (CharBuffer src) {
+        if (!(src instanceof CharToByteBufferAdapter)) {
+            return super.put(src);
+        }
+        if (src == this) {
+            throw new IllegalArgumentException();
+        }
+        if (CHECKED && src.remaining() > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        CharToByteBufferAdapter other = (CharToByteBufferAdapter) src;
+        checkAttached(attachedLength());
+        other.checkAttached(other.attachedLength());
+        int len = other.remaining();
+        if (order == other.order && charArray != null && other.charArray != null) {
+            if (BufferMetrics.ENABLED && charArray.buffer == other.charArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 1);
+            }
+            charArray.set(other.charArray.<Uint16Array>subarray(other.position, other.limit), position);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, other.load(other.position + i));
+            }
+        }
+        other.position += len;
+        position += len;
+        return this;
+    }
+
+    @Override
+    public CharBuffer put (int index, char c) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, c);
+        return this;
+    }
+
+    /** Writes the char to the specified index, which the caller has checked. */
+    private void store (int index, char c) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            dataView.setUint16(index << 1, c, littleEndian);
+        } else {
+            Elements.set(charArray, index, c);
+        }
+    }
+
+    @Override
+    public CharBuffer put (String str, int start, int end) {
+        int length = str.length();
+        if (CHECKED && (start < 0 || end < start || end > length)) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (CHECKED && end - start > remaining()) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        for (int i = start; i < end; i++) {
+            store(position++, str.charAt(i));
+        }
+        return this;
+    }
+
+    @Override
+    public CharBuffer slice () {
+        if (charArray == null) {
+            return new CharToByteBufferAdapter(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 1), (limit - position) << 1));
+        }
+        return new CharToByteBufferAdapter(charArray.<Uint16Array>subarray(position, limit), order, readOnly, null);
+    }
+
+    @Override
+    public CharSequence subSequence (int start, int end) {
+        if (start < 0 || end < start || end > remaining()) {
+            throw new IndexOutOfBoundsException();
+        }
+        CharBuffer result = duplicate();
+        result.limit(position + end);
+        result.position(position + start);
+        return result;
+    }
+
+    @Override
+    public boolean isReadOnly () {
+        return readOnly;
+    }
+
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return charArray != null ? charArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return charArray != null ? charArray.length : dataView.buffer.byteLength;
+    }
+
+    @Override
+    public ArrayBufferView getTypedArray () {
+        return memory();
+    }
+
+    @Override
+    public int getElementSize () {
+        return 2;
+    }
+
+    @Override
+    public int getElementType () {
+        return 0x1403; // GL_UNSIGNED_SHORT
+    }
+}
@@ -17,6 +17,14 @@
 
 package java.nio;
 
+import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
+import elemental2.core.Float64Array;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
+
 /** A buffer of doubles.
  * <p> A double buffer can be created in either one of the following ways: </p>
  * <ul>
@@ -26,103 +34,194 @@ package java.nio;
  * double buffer based on a byte buffer.</li>
  * </ul>
  */
-public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBuffer> {
-
-//    /** Creates a double buffer based on a newly allocated double array.
-//     *
-//     * @param capacity the capacity of the new buffer.
-//     * @return the created double buffer.
-//     * @throws IllegalArgumentException if {@code capacity} is less than zero.
-//     */
-//    public static DoubleBuffer allocate (int capacity) {
-//        if (capacity < 0) {
-//            throw new IllegalArgumentException();
-//        }
-//        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 8);
-//        bb.order(ByteOrder.nativeOrder());
-//        return bb.asDoubleBuffer();
-//    }
-
-    /** Constructs a {@code DoubleBuffer} with given capacity.
+public final class DoubleBuffer extends Buffer
+        implements Comparable<DoubleBuffer>, org.gwtproject.nio.HasArrayBufferView {
+
+    /** {@code null} if the memory is not aligned to the element size. */
+    private final Float64Array doubleArray;
+
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
+    static DoubleBuffer wrap (ByteBuffer byteBuffer) {
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 7) != 0) {
+            // a typed array cannot start there
+            return new DoubleBuffer(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 3) << 3));
+        }
+        Float64Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.DOUBLE_VIEW));
+        if (array == null) {
+            array = new Float64Array(byteBuffer.byteArray.buffer, byteOffset, byteBuffer.remaining() >> 3);
+            byteBuffer.cacheView(ByteBuffer.DOUBLE_VIEW, array);
+        }
+        return new DoubleBuffer(array, byteBuffer.order(), byteBuffer.readOnly, null);
+    }
+
+    /** Creates a double buffer based on a newly allocated double array.
      *
-     * @param capacity the capacity of the buffer. */
-    DoubleBuffer (int capacity) {
-        super(capacity);
+     * @param capacity the capacity of the new buffer.
+     * @return the created double buffer.
+     * @throws IllegalArgumentException if {@code capacity} is less than zero.
+     */
+    public static DoubleBuffer allocate (int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 8, BufferMetrics.DOUBLE);
+        bb.order(ByteOrder.nativeOrder());
+        return bb.asDoubleBuffer();
+    }
+
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private DoubleBuffer (Float64Array doubleArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(doubleArray != null ? doubleArray.length : dataView.byteLength >> 3);
+        this.doubleArray = doubleArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (doubleArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(doubleArray.buffer, doubleArray.byteOffset, doubleArray.byteLength);
+        }
+        this.readOnly = readOnly;
     }
 
     /** Returns a read-only buffer that shares its content with this buffer.
      * <p> The returned buffer is guaranteed to be a new instance, even if this buffer is read-only
      * itself. The new buffer's position, limit, capacity and mark are the same as this buffer's.
      * </p>
-     * <p> The new buffer shares its content with this buffer, which means that this buffer's
-     * change of content will be visible to the new buffer. The two buffer's position, limit and
-     * mark are independent. </p>
+     * <p> The new buffer shares its content with this buffer, which means this buffer's change of
+     * content will be visible to the new buffer. The two buffer's position, limit and mark are
+     * independent. </p>
      *
      * @return a read-only version of this buffer.
      */
-    public abstract DoubleBuffer asReadOnlyBuffer ();
+    public DoubleBuffer asReadOnlyBuffer () {
+        DoubleBuffer buf = new DoubleBuffer(doubleArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
 
     /** Compacts this double buffer.
-     * <p> The remaining doubles will be moved to the head of the buffer, staring from position
+     * <p> The remaining doubles will be moved to the head of the buffer, starting from position
      * zero. Then the position is set to {@code remaining()}; the limit is set to capacity; the
      * mark is cleared. </p>
      *
      * @return this buffer.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract DoubleBuffer compact ();
+    public DoubleBuffer compact () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (doubleArray != null) {
+            doubleArray.copyWithin(0, position, limit);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 3, limit << 3);
+        }
+        position = limit - position;
+        limit = capacity;
+        mark = UNSET_MARK;
+        return this;
+    }
 
     /** Compare the remaining doubles of this buffer to another double buffer's remaining doubles.
      *
      * @param otherBuffer another double buffer.
-     * @return a negative value if this is less than {@code other}; 0 if this equals to {@code
-     *         other}; a positive value if this is greater than {@code other}.
-     * @exception ClassCastException if {@code other} is not a double buffer.
+     * @return a negative value if this is less than {@code otherBuffer}; 0 if this equals to
+     *         {@code otherBuffer}; a positive value if this is greater than {@code otherBuffer}.
+     * @exception ClassCastException if {@code otherBuffer} is not a double buffer.
      */
     public int compareTo (DoubleBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        // BEGIN android-changed
-        double thisDouble, otherDouble;
-        while (compareRemaining > 0) {
-            thisDouble = get(thisPos);
-            otherDouble = otherBuffer.get(otherPos);
-            // checks for double and NaN inequality
-            if ((thisDouble != otherDouble) &&
-                    ((thisDouble == thisDouble) || (otherDouble == otherDouble))) {
-                return thisDouble < otherDouble ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Double.compare(load(position + i), otherBuffer.load(otherBuffer.position + i));
         }
-        // END android-changed
         return remaining() - otherBuffer.remaining();
     }
 
+    @Override
+    public DoubleBuffer limit(int newLimit) {
+        return Js.uncheckedCast(super.limit(newLimit));
+    }
+
+    @Override
+    public DoubleBuffer position(int newPosition) {
+        return Js.uncheckedCast(super.position(newPosition));
+    }
+
+    @Override
+    public DoubleBuffer mark() {
+        return Js.uncheckedCast(super.mark());
+    }
+
+    @Override
+    public DoubleBuffer reset() {
+        return Js.uncheckedCast(super.reset());
+    }
+
+    @Override
+    public DoubleBuffer clear() {
+        return Js.uncheckedCast(super.clear());
+    }
+
+    @Override
+    public DoubleBuffer flip() {
+        return Js.uncheckedCast(super.flip());
+    }
+
+    @Override
+    public DoubleBuffer rewind() {
+        return Js.uncheckedCast(super.rewind());
+    }
+
     /** Returns a duplicated buffer that shares its content with this buffer.
-     * <p> The duplicated buffer's position, limit, capacity and mark are the same as this
-     * buffer's. The duplicated buffer's read-only property and byte order are the same as this
-     * buffer's, too. </p>
+     * <p> The duplicated buffer's position, limit, capacity and mark are the same as this buffer.
+     * The duplicated buffer's read-only property and byte order are same as this buffer too. </p>
      * <p> The new buffer shares its content with this buffer, which means either buffer's change
      * of content will be visible to the other. The two buffer's position, limit and mark are
      * independent. </p>
      *
      * @return a duplicated buffer that shares its content with this buffer.
      */
-    public abstract DoubleBuffer duplicate ();
+    public DoubleBuffer duplicate () {
+        DoubleBuffer buf = new DoubleBuffer(doubleArray, order, readOnly, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
 
     /** Checks whether this double buffer is equal to another object.
-     * <p> If {@code other} is not a double buffer then {@code false} is returned. Two double
-     * buffers are equal if and only if their remaining doubles are exactly the same. Position,
-     * limit, capacity and mark are not considered. </p>
+     * <p> If {@code other} is not a double buffer then {@code false} is returned. Two double buffers
+     * are equal if and only if their remaining doubles are exactly the same, where all NaN values are
+     * equal to each other and {@code -0.0} is equal to {@code 0.0}. Position, limit, capacity and
+     * mark are not considered. </p>
      *
      * @param other the object to compare with this double buffer.
      * @return {@code true} if this double buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof DoubleBuffer)) {
             return false;
         }
@@ -131,15 +230,7 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the double at the current position and increases the position by 1.
@@ -147,7 +238,13 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * @return the double at the current position.
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
-    public abstract double get ();
+    public double get () {
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
+    }
 
     /** Reads doubles from the current position into the specified double array and increases the
      * position by the number of doubles read.
@@ -165,9 +262,9 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * specified offset, and increases the position by the number of doubles read.
      *
      * @param dest the target double array.
-     * @param off the offset of the double array, must not be negative and not greater than {@code
+     * @param off the offset of the double array, must not be negative and no greater than {@code
      * dest.length}.
-     * @param len the number of doubles to read, must be no less than zero and not greater than
+     * @param len the number of doubles to read, must be no less than zero and no greater than
      * {@code dest.length - off}.
      * @return this buffer.
      * @exception IndexOutOfBoundsException if either {@code off} or {@code len} is invalid.
@@ -175,16 +272,25 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      */
     public DoubleBuffer get (double[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            dest[i] = get();
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = dataView.getFloat64((position + i) << 3, littleEndian);
+            }
+        } else {
+            BufferMetrics.elementLoop(len);
+            Elements.copy(doubleArray, position, dest, off, len);
         }
+        position += len;
         return this;
     }
 
@@ -194,32 +300,85 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * @return a double at the specified index.
      * @exception IndexOutOfBoundsException if index is invalid.
      */
-    public abstract double get (int index);
-
-// /**
-// * Calculates this buffer's hash code from the remaining chars. The
-// * position, limit, capacity and mark don't affect the hash code.
-// *
-// * @return the hash code calculated from the remaining chars.
-// */
-// public int hashCode() {
-// int myPosition = position;
-// int hash = 0;
-// long l;
-// while (myPosition < limit) {
-// l = Double.doubleToLongBits(get(myPosition++));
-// hash = hash + ((int) l) ^ ((int) (l >> 32));
-// }
-// return hash;
-// }
+    public double get (int index) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
+    }
+
+    /** Returns the double at the specified index, which the caller has checked. */
+    private double load (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return dataView.getFloat64(index << 3, littleEndian);
+        }
+        return Elements.get(doubleArray, index);
+    }
+
+    /** Calculates this buffer's hash code from the remaining doubles. The position, limit, capacity
+     * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + (int) get(i)} for every index
+     * from {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
+     *
+     * @return the hash code calculated from the remaining doubles.
+     */
+    public int hashCode () {
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        checkAttached(attachedLength());
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + (int) load(i);
+        }
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining doubles of
+     * this buffer and another buffer. Like {@link #equals(Object)}, two doubles {@code a} and {@code b}
+     * are considered equal if {@code (a == b) || (Double.isNaN(a) && Double.isNaN(b))}.
+     *
+     * @param that the double buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining doubles are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (DoubleBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        checkAttached(attachedLength());
+        that.checkAttached(that.attachedLength());
+        int i = 0;
+        while (i < length) {
+            if (order == that.order && ((length - i) << 3) >= BufferMismatch.WORD_THRESHOLD) {
+                // skip to the next element whose bits differ, which may still be equal as a value
+                int m = BufferMismatch.mismatch(memory(), (position + i) << 3,
+                        that.memory(), (that.position + i) << 3, (length - i) << 3);
+                if (m < 0) {
+                    break;
+                }
+                i += m >> 3;
+            }
+            double a = load(position + i);
+            double b = that.load(that.position + i);
+            if (a != b && !(Double.isNaN(a) && Double.isNaN(b))) {
+                return i;
+            }
+            i++;
+        }
+        return remaining() == that.remaining() ? -1 : length;
+    }
 
     /** Returns the byte order used by this buffer when converting doubles from/to bytes.
-     * <p> If this buffer is not based on a byte buffer, then this always returns the platform's
-     * native byte order. </p>
+     * <p> If this buffer is not based on a byte buffer, then always return the platform's native
+     * byte order. </p>
      *
      * @return the byte order used by this buffer when converting doubles from/to bytes.
      */
-    public abstract ByteOrder order ();
+    public ByteOrder order () {
+        return order;
+    }
 
     /** Writes the given double to the current position and increases the position by 1.
      *
@@ -228,11 +387,21 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * @exception BufferOverflowException if position is equal or greater than limit.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract DoubleBuffer put (double d);
+    public DoubleBuffer put (double d) {
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, d);
+        return this;
+    }
 
-    /** Writes doubles from the given double array to the current position and increases the
-     * position by the number of doubles written. <p> Calling this method has the same effect as
-     * {@code put(src, 0, src.length)}. </p>
+    /** Writes doubles from the given double array to the current position and increases the position
+     * by the number of doubles written.
+     * <p> Calling this method has the same effect as {@code put(src, 0, src.length)}. </p>
      *
      * @param src the source double array.
      * @return this buffer.
@@ -247,9 +416,8 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * current position and increases the position by the number of doubles written.
      *
      * @param src the source double array.
-     * @param off the offset of double array, must not be negative and not greater than {@code
-     * src.length}.
-     * @param len the number of doubles to write, must be no less than zero and not greater than
+     * @param off the offset of double array, must not be negative and not greater than {@code src.length}.
+     * @param len the number of doubles to write, must be no less than zero and no greater than
      * {@code src.length - off}.
      * @return this buffer.
      * @exception BufferOverflowException if {@code remaining()} is less than {@code len}.
@@ -258,16 +426,27 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      */
     public DoubleBuffer put (double[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            put(src[i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dataView.setFloat64((position + i) << 3, src[off + i], littleEndian);
+            }
+        } else {
+            Elements.copy(src, off, doubleArray, position, len);
         }
+        position += len;
         return this;
     }
 
@@ -285,16 +464,33 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        double[] doubles = new double[src.remaining()];
-        src.get(doubles);
-        put(doubles);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        src.checkAttached(src.attachedLength());
+        int len = src.remaining();
+        if (order == src.order && doubleArray != null && src.doubleArray != null) {
+            if (BufferMetrics.ENABLED && doubleArray.buffer == src.doubleArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 3);
+            }
+            doubleArray.set(src.doubleArray.<Float64Array>subarray(src.position, src.limit), position);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, src.load(src.position + i));
+            }
+        }
+        src.position += len;
+        position += len;
         return this;
     }
 
-    /** Write a double to the specified index of this buffer and the position is not changed.
+    /** Writes a double to the specified index of this buffer; the position is not changed.
      *
      * @param index the index, must not be negative and less than the limit.
      * @param d the double to write.
@@ -302,24 +498,50 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
      * @exception IndexOutOfBoundsException if index is invalid.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract DoubleBuffer put (int index, double d);
+    public DoubleBuffer put (int index, double d) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, d);
+        return this;
+    }
+
+    /** Writes the double to the specified index, which the caller has checked. */
+    private void store (int index, double d) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            dataView.setFloat64(index << 3, d, littleEndian);
+        } else {
+            Elements.set(doubleArray, index, d);
+        }
+    }
 
     /** Returns a sliced buffer that shares its content with this buffer.
      * <p> The sliced buffer's capacity will be this buffer's {@code remaining()}, and its zero
      * position will correspond to this buffer's current position. The new buffer's position will
      * be 0, limit will be its capacity, and its mark is cleared. The new buffer's read-only
-     * property and byte order are the same as this buffer's. </p>
+     * property and byte order are same as this buffer's. </p>
      * <p> The new buffer shares its content with this buffer, which means either buffer's change
      * of content will be visible to the other. The two buffer's position, limit and mark are
      * independent. </p>
      *
      * @return a sliced buffer that shares its content with this buffer.
      */
-    public abstract DoubleBuffer slice ();
+    public DoubleBuffer slice () {
+        if (doubleArray == null) {
+            return new DoubleBuffer(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 3), (limit - position) << 3));
+        }
+        return new DoubleBuffer(doubleArray.<Float64Array>subarray(position, limit), order, readOnly, null);
+    }
 
     /** Returns a string representing the state of this double buffer.
      *
-     * @return A string representing the state of this double buffer.
+     * @return a string representing the state of this double buffer.
      */
     public String toString () {
         StringBuffer buf = new StringBuffer();
@@ -333,6 +555,32 @@ public abstract class DoubleBuffer extends Buffer implements Comparable<DoubleBu
         return buf.toString();
     }
 
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return doubleArray != null ? doubleArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return doubleArray != null ? doubleArray.length : dataView.buffer.byteLength;
+    }
+
+    public ArrayBufferView getTypedArray () {
+        return memory();
+    }
+
+    public int getElementSize () {
+        return 8;
+    }
+
+    public int getElementType() {
+        return 0x140A; // GL_DOUBLE
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     @Override
     public final double[] array() {
         return (double[]) super.array();
@@ -18,8 +18,12 @@
 package java.nio;
 
 import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
 import elemental2.core.Float32Array;
+import elemental2.core.Int8Array;
 import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
 
 /** A buffer of floats.
  * <p>
@@ -34,11 +38,34 @@ import jsinterop.base.Js;
 public final class FloatBuffer extends Buffer
         implements Comparable<FloatBuffer>, org.gwtproject.nio.HasArrayBufferView {
 
-    private final ByteBuffer byteBuffer;
+    /** {@code null} if the memory is not aligned to the element size. */
     private final Float32Array floatArray;
 
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
     static FloatBuffer wrap (ByteBuffer byteBuffer) {
-        return new FloatBuffer(byteBuffer.slice());
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 3) != 0) {
+            // a typed array cannot start there
+            return new FloatBuffer(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 2) << 2));
+        }
+        Float32Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.FLOAT_VIEW));
+        if (array == null) {
+            array = new Float32Array(byteBuffer.byteArray.buffer, byteOffset, byteBuffer.remaining() >> 2);
+            byteBuffer.cacheView(ByteBuffer.FLOAT_VIEW, array);
+        }
+        return new FloatBuffer(array, byteBuffer.order(), byteBuffer.readOnly, null);
     }
 
     /** Creates a float buffer based on a newly allocated float array.
@@ -51,17 +78,45 @@ public final class FloatBuffer extends Buffer
         if (capacity < 0) {
             throw new IllegalArgumentException();
         }
-        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 4);
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 4, BufferMetrics.FLOAT);
         bb.order(ByteOrder.nativeOrder());
         return bb.asFloatBuffer();
     }
 
-    FloatBuffer (ByteBuffer byteBuffer) {
-        super((byteBuffer.capacity() >> 2));
-        this.byteBuffer = byteBuffer;
-        this.byteBuffer.clear();
-        this.floatArray = new Float32Array(
-                byteBuffer.byteArray.buffer, byteBuffer.byteArray.byteOffset, capacity);
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private FloatBuffer (Float32Array floatArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(floatArray != null ? floatArray.length : dataView.byteLength >> 2);
+        this.floatArray = floatArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (floatArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(floatArray.buffer, floatArray.byteOffset, floatArray.byteLength);
+        }
+        this.readOnly = readOnly;
+    }
+
+    /** Returns a read-only buffer that shares its content with this buffer.
+     * <p> The returned buffer is guaranteed to be a new instance, even if this buffer is read-only
+     * itself. The new buffer's position, limit, capacity and mark are the same as this buffer's.
+     * </p>
+     * <p> The new buffer shares its content with this buffer, which means this buffer's change of
+     * content will be visible to the new buffer. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a read-only version of this buffer.
+     */
+    public FloatBuffer asReadOnlyBuffer () {
+        FloatBuffer buf = new FloatBuffer(floatArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
     }
 
     /** Compacts this float buffer.
@@ -73,10 +128,15 @@ public final class FloatBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public FloatBuffer compact () {
-        byteBuffer.limit(limit << 2);
-        byteBuffer.position(position << 2);
-        byteBuffer.compact();
-        byteBuffer.clear();
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (floatArray != null) {
+            floatArray.copyWithin(0, position, limit);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 2, limit << 2);
+        }
         position = limit - position;
         limit = capacity;
         mark = UNSET_MARK;
@@ -91,25 +151,10 @@ public final class FloatBuffer extends Buffer
      * @exception ClassCastException if {@code otherBuffer} is not a float buffer.
      */
     public int compareTo (FloatBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        // BEGIN android-changed
-        float thisFloat, otherFloat;
-        while (compareRemaining > 0) {
-            thisFloat = get(thisPos);
-            otherFloat = otherBuffer.get(otherPos);
-            // checks for float and NaN inequality
-            if ((thisFloat != otherFloat) &&
-                    ((thisFloat == thisFloat) || (otherFloat == otherFloat))) {
-                return thisFloat < otherFloat ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Float.compare(load(position + i), otherBuffer.load(otherBuffer.position + i));
         }
-        // END android-changed
         return remaining() - otherBuffer.remaining();
     }
 
@@ -158,7 +203,7 @@ public final class FloatBuffer extends Buffer
      * @return a duplicated buffer that shares its content with this buffer.
      */
     public FloatBuffer duplicate () {
-        FloatBuffer buf = new FloatBuffer(byteBuffer.duplicate());
+        FloatBuffer buf = new FloatBuffer(floatArray, order, readOnly, dataView);
         buf.limit = limit;
         buf.position = position;
         buf.mark = mark;
@@ -167,13 +212,17 @@ public final class FloatBuffer extends Buffer
 
     /** Checks whether this float buffer is equal to another object.
      * <p> If {@code other} is not a float buffer then {@code false} is returned. Two float buffers
-     * are equal if and only if their remaining floats are exactly the same. Position, limit,
-     * capacity and mark are not considered. </p>
+     * are equal if and only if their remaining floats are exactly the same, where all NaN values are
+     * equal to each other and {@code -0.0} is equal to {@code 0.0}. Position, limit, capacity and
+     * mark are not considered. </p>
      *
      * @param other the object to compare with this float buffer.
      * @return {@code true} if this float buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof FloatBuffer)) {
             return false;
         }
@@ -182,15 +231,7 @@ public final class FloatBuffer extends Buffer
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the float at the current position and increases the position by 1.
@@ -199,10 +240,11 @@ public final class FloatBuffer extends Buffer
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
     public float get () {
-        // if (position == limit) {
-        // throw new BufferUnderflowException();
-        // }
-        return (float)(double)floatArray.getAt(position++);
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
     }
 
     /** Reads floats from the current position into the specified float array and increases the
@@ -231,16 +273,25 @@ public final class FloatBuffer extends Buffer
      */
     public FloatBuffer get (float[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            dest[i] = get();
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = (float) dataView.getFloat32((position + i) << 2, littleEndian);
+            }
+        } else {
+            BufferMetrics.elementLoop(len);
+            Elements.copy(floatArray, position, dest, off, len);
         }
+        position += len;
         return this;
     }
 
@@ -251,27 +302,74 @@ public final class FloatBuffer extends Buffer
      * @exception IndexOutOfBoundsException if index is invalid.
      */
     public float get (int index) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        return (float)(double)floatArray.getAt(index);
-    }
-
-// /**
-// * Calculates this buffer's hash code from the remaining chars. The
-// * position, limit, capacity and mark don't affect the hash code.
-// *
-// * @return the hash code calculated from the remaining floats.
-// * @since Android 1.0
-// */
-// public int hashCode() {
-// int myPosition = position;
-// int hash = 0;
-// while (myPosition < limit) {
-// hash = hash + Float.floatToIntBits(get(myPosition++));
-// }
-// return hash;
-// }
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
+    }
+
+    /** Returns the float at the specified index, which the caller has checked. */
+    private float load (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return (float) dataView.getFloat32(index << 2, littleEndian);
+        }
+        return Elements.get(floatArray, index);
+    }
+
+    /** Calculates this buffer's hash code from the remaining floats. The position, limit, capacity
+     * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + (int) get(i)} for every index
+     * from {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
+     *
+     * @return the hash code calculated from the remaining floats.
+     */
+    public int hashCode () {
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        checkAttached(attachedLength());
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + (int) load(i);
+        }
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining floats of
+     * this buffer and another buffer. Like {@link #equals(Object)}, two floats {@code a} and {@code b}
+     * are considered equal if {@code (a == b) || (Float.isNaN(a) && Float.isNaN(b))}.
+     *
+     * @param that the float buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining floats are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (FloatBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        checkAttached(attachedLength());
+        that.checkAttached(that.attachedLength());
+        int i = 0;
+        while (i < length) {
+            if (order == that.order && ((length - i) << 2) >= BufferMismatch.WORD_THRESHOLD) {
+                // skip to the next element whose bits differ, which may still be equal as a value
+                int m = BufferMismatch.mismatch(memory(), (position + i) << 2,
+                        that.memory(), (that.position + i) << 2, (length - i) << 2);
+                if (m < 0) {
+                    break;
+                }
+                i += m >> 2;
+            }
+            float a = load(position + i);
+            float b = that.load(that.position + i);
+            if (a != b && !(Float.isNaN(a) && Float.isNaN(b))) {
+                return i;
+            }
+            i++;
+        }
+        return remaining() == that.remaining() ? -1 : length;
+    }
 
     /** Returns the byte order used by this buffer when converting floats from/to bytes.
      * <p> If this buffer is not based on a byte buffer, then always return the platform's native
@@ -280,7 +378,7 @@ public final class FloatBuffer extends Buffer
      * @return the byte order used by this buffer when converting floats from/to bytes.
      */
     public ByteOrder order () {
-        return ByteOrder.nativeOrder();
+        return order;
     }
 
     /** Writes the given float to the current position and increases the position by 1.
@@ -291,10 +389,14 @@ public final class FloatBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public FloatBuffer put (float c) {
-        // if (position == limit) {
-        // throw new BufferOverflowException();
-        // }
-        floatArray.setAt(position++, (double) c);
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, c);
         return this;
     }
 
@@ -325,16 +427,27 @@ public final class FloatBuffer extends Buffer
      */
     public FloatBuffer put (float[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            put(src[i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
         }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dataView.setFloat32((position + i) << 2, src[off + i], littleEndian);
+            }
+        } else {
+            Elements.copy(src, off, floatArray, position, len);
+        }
+        position += len;
         return this;
     }
 
@@ -352,12 +465,29 @@ public final class FloatBuffer extends Buffer
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        float[] contents = new float[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        src.checkAttached(src.attachedLength());
+        int len = src.remaining();
+        if (order == src.order && floatArray != null && src.floatArray != null) {
+            if (BufferMetrics.ENABLED && floatArray.buffer == src.floatArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 2);
+            }
+            floatArray.set(src.floatArray.<Float32Array>subarray(src.position, src.limit), position);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, src.load(src.position + i));
+            }
+        }
+        src.position += len;
+        position += len;
         return this;
     }
 
@@ -370,13 +500,27 @@ public final class FloatBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public FloatBuffer put (int index, float c) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        floatArray.setAt(index, (double) c);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, c);
         return this;
     }
 
+    /** Writes the float to the specified index, which the caller has checked. */
+    private void store (int index, float c) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            dataView.setFloat32(index << 2, c, littleEndian);
+        } else {
+            Elements.set(floatArray, index, c);
+        }
+    }
+
     /** Returns a sliced buffer that shares its content with this buffer.
      * <p> The sliced buffer's capacity will be this buffer's {@code remaining()}, and its zero
      * position will correspond to this buffer's current position. The new buffer's position will
@@ -389,11 +533,11 @@ public final class FloatBuffer extends Buffer
      * @return a sliced buffer that shares its content with this buffer.
      */
     public FloatBuffer slice () {
-        byteBuffer.limit(limit << 2);
-        byteBuffer.position(position << 2);
-        FloatBuffer result = new FloatBuffer(byteBuffer.slice());
-        byteBuffer.clear();
-        return result;
+        if (floatArray == null) {
+            return new FloatBuffer(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 2), (limit - position) << 2));
+        }
+        return new FloatBuffer(floatArray.<Float32Array>subarray(position, limit), order, readOnly, null);
     }
 
     /** Returns a string representing the state of this float buffer.
@@ -412,8 +556,18 @@ public final class FloatBuffer extends Buffer
         return buf.toString();
     }
 
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return floatArray != null ? floatArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return floatArray != null ? floatArray.length : dataView.buffer.byteLength;
+    }
+
     public ArrayBufferView getTypedArray () {
-        return floatArray;
+        return memory();
     }
 
     public int getElementSize () {
@@ -425,7 +579,7 @@ public final class FloatBuffer extends Buffer
     }
 
     public boolean isReadOnly() {
-        return false;
+        return readOnly;
     }
 
     @Override
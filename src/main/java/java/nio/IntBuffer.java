@@ -18,7 +18,12 @@
 package java.nio;
 
 import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
 import elemental2.core.Int32Array;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
 
 /** A buffer of ints.
  * <p>
@@ -34,12 +39,35 @@ import elemental2.core.Int32Array;
 public final class IntBuffer extends Buffer
         implements Comparable<IntBuffer>, org.gwtproject.nio.HasArrayBufferView {
 
-    /** Sliced version of the underlying byte buffer, not the underlying byte buffer directly */
-    private final ByteBuffer byteBuffer;
+    /** Sliced version of the underlying byte buffer, not the underlying byte buffer directly.
+     * {@code null} if the memory is not aligned to the element size. */
     private final Int32Array intArray;
 
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
     static IntBuffer wrap (ByteBuffer byteBuffer) {
-        return new IntBuffer(byteBuffer.slice());
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 3) != 0) {
+            // a typed array cannot start there
+            return new IntBuffer(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 2) << 2));
+        }
+        Int32Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.INT_VIEW));
+        if (array == null) {
+            array = new Int32Array(byteBuffer.byteArray.buffer, byteOffset, byteBuffer.remaining() >> 2);
+            byteBuffer.cacheView(ByteBuffer.INT_VIEW, array);
+        }
+        return new IntBuffer(array, byteBuffer.order(), byteBuffer.readOnly, null);
     }
 
     /** Creates an int buffer based on a newly allocated int array.
@@ -52,18 +80,45 @@ public final class IntBuffer extends Buffer
         if (capacity < 0) {
             throw new IllegalArgumentException();
         }
-        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 4);
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 4, BufferMetrics.INT);
         bb.order(ByteOrder.nativeOrder());
         return bb.asIntBuffer();
     }
 
-    IntBuffer(ByteBuffer byteBuffer) {
-        super((byteBuffer.capacity() >> 2));
-        this.byteBuffer = byteBuffer;
-        this.byteBuffer.clear();
-        this.intArray = new Int32Array(
-                byteBuffer.byteArray.buffer,
-                byteBuffer.byteArray.byteOffset, capacity);
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private IntBuffer (Int32Array intArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(intArray != null ? intArray.length : dataView.byteLength >> 2);
+        this.intArray = intArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (intArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(intArray.buffer, intArray.byteOffset, intArray.byteLength);
+        }
+        this.readOnly = readOnly;
+    }
+
+    /** Returns a read-only buffer that shares its content with this buffer.
+     * <p> The returned buffer is guaranteed to be a new instance, even if this buffer is read-only
+     * itself. The new buffer's position, limit, capacity and mark are the same as this buffer's.
+     * </p>
+     * <p> The new buffer shares its content with this buffer, which means this buffer's change of
+     * content will be visible to the new buffer. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a read-only version of this buffer.
+     */
+    public IntBuffer asReadOnlyBuffer () {
+        IntBuffer buf = new IntBuffer(intArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
     }
 
     /** Compacts this int buffer.
@@ -75,10 +130,15 @@ public final class IntBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public IntBuffer compact () {
-        byteBuffer.limit(limit << 2);
-        byteBuffer.position(position << 2);
-        byteBuffer.compact();
-        byteBuffer.clear();
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (intArray != null) {
+            intArray.copyWithin(0, position, limit);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 2, limit << 2);
+        }
         position = limit - position;
         limit = capacity;
         mark = UNSET_MARK;
@@ -93,23 +153,10 @@ public final class IntBuffer extends Buffer
      * @exception ClassCastException if {@code other} is not an int buffer.
      */
     public int compareTo (IntBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        // BEGIN android-changed
-        int thisInt, otherInt;
-        while (compareRemaining > 0) {
-            thisInt = get(thisPos);
-            otherInt = otherBuffer.get(otherPos);
-            if (thisInt != otherInt) {
-                return thisInt < otherInt ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Integer.compare(load(position + i), otherBuffer.load(otherBuffer.position + i));
         }
-        // END android-changed
         return remaining() - otherBuffer.remaining();
     }
 
@@ -124,7 +171,7 @@ public final class IntBuffer extends Buffer
      * @return a duplicated buffer that shares its content with this buffer.
      */
     public IntBuffer duplicate () {
-        IntBuffer buf = new IntBuffer(byteBuffer.duplicate());
+        IntBuffer buf = new IntBuffer(intArray, order, readOnly, dataView);
         buf.limit = limit;
         buf.position = position;
         buf.mark = mark;
@@ -140,6 +187,9 @@ public final class IntBuffer extends Buffer
      * @return {@code true} if this int buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof IntBuffer)) {
             return false;
         }
@@ -148,15 +198,7 @@ public final class IntBuffer extends Buffer
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the int at the current position and increases the position by 1.
@@ -165,10 +207,11 @@ public final class IntBuffer extends Buffer
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
     public int get () {
-        // if (position == limit) {
-        // throw new BufferUnderflowException();
-        // }
-        return (int)(double)intArray.getAt(position++);
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
     }
 
     /** Reads ints from the current position into the specified int array and increases the
@@ -199,15 +242,24 @@ public final class IntBuffer extends Buffer
      */
     public IntBuffer get (int[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)len + (long)off > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            dest[i] = get();
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = dataView.getInt32((position + i) << 2, littleEndian);
+            }
+        } else {
+            BufferMetrics.elementLoop(len);
+            Elements.copy(intArray, position, dest, off, len);
         }
+        position += len;
         return this;
     }
 
@@ -218,24 +270,67 @@ public final class IntBuffer extends Buffer
      * @exception IndexOutOfBoundsException if index is invalid.
      */
     public int get (int index) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        return (int)(double)intArray.getAt(index);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
     }
 
-    /** Calculates this buffer's hash code from the remaining chars. The position, limit, capacity
+    /** Returns the int at the specified index, which the caller has checked. */
+    private int load (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return dataView.getInt32(index << 2, littleEndian);
+        }
+        return Elements.get(intArray, index);
+    }
+
+    /** Calculates this buffer's hash code from the remaining ints. The position, limit, capacity
      * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + get(i)} for every index
+     * from {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
      *
      * @return the hash code calculated from the remaining ints.
      */
     public int hashCode () {
-        int myPosition = position;
-        int hash = 0;
-        while (myPosition < limit) {
-            hash = hash + get(myPosition++);
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        checkAttached(attachedLength());
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + load(i);
+        }
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining ints of
+     * this buffer and another buffer. Buffers of the same byte order are compared a word at a time.
+     *
+     * @param that the int buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining ints are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (IntBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        checkAttached(attachedLength());
+        that.checkAttached(that.attachedLength());
+        if (order == that.order && (length << 2) >= BufferMismatch.WORD_THRESHOLD) {
+            int i = BufferMismatch.mismatch(memory(), position << 2, that.memory(), that.position << 2,
+                    length << 2);
+            if (i >= 0) {
+                return i >> 2;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (load(position + i) != that.load(that.position + i)) {
+                    return i;
+                }
+            }
         }
-        return hash;
+        return remaining() == that.remaining() ? -1 : length;
     }
 
     /** Returns the byte order used by this buffer when converting ints from/to bytes.
@@ -245,7 +340,7 @@ public final class IntBuffer extends Buffer
      * @return the byte order used by this buffer when converting ints from/to bytes.
      */
     public ByteOrder order () {
-        return ByteOrder.nativeOrder();
+        return order;
     }
 
     /** Writes the given int to the current position and increases the position by 1.
@@ -256,10 +351,14 @@ public final class IntBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public IntBuffer put (int c) {
-        // if (position == limit) {
-        // throw new BufferOverflowException();
-        // }
-        intArray.setAt(position++, (double)c);
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, c);
         return this;
     }
 
@@ -290,16 +389,27 @@ public final class IntBuffer extends Buffer
      */
     public IntBuffer put (int[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || (long)len + (long)off > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            put(src[i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dataView.setInt32((position + i) << 2, src[off + i], littleEndian);
+            }
+        } else {
+            Elements.copy(src, off, intArray, position, len);
         }
+        position += len;
         return this;
     }
 
@@ -317,12 +427,29 @@ public final class IntBuffer extends Buffer
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        int[] contents = new int[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        src.checkAttached(src.attachedLength());
+        int len = src.remaining();
+        if (order == src.order && intArray != null && src.intArray != null) {
+            if (BufferMetrics.ENABLED && intArray.buffer == src.intArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 2);
+            }
+            intArray.set(src.intArray.<Int32Array>subarray(src.position, src.limit), position);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, src.load(src.position + i));
+            }
+        }
+        src.position += len;
+        position += len;
         return this;
     }
 
@@ -335,13 +462,27 @@ public final class IntBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public IntBuffer put (int index, int c) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        intArray.setAt(index, (double)c);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, c);
         return this;
     }
 
+    /** Writes the int to the specified index, which the caller has checked. */
+    private void store (int index, int c) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            dataView.setInt32(index << 2, c, littleEndian);
+        } else {
+            Elements.set(intArray, index, c);
+        }
+    }
+
     /** Returns a sliced buffer that shares its content with this buffer.
      * <p> The sliced buffer's capacity will be this buffer's {@code remaining()}, and its zero
      * position will correspond to this buffer's current position. The new buffer's position will
@@ -354,11 +495,11 @@ public final class IntBuffer extends Buffer
      * @return a sliced buffer that shares its content with this buffer.
      */
     public IntBuffer slice () {
-        byteBuffer.limit(limit << 2);
-        byteBuffer.position(position << 2);
-        IntBuffer result = new IntBuffer(byteBuffer.slice());
-        byteBuffer.clear();
-        return result;
+        if (intArray == null) {
+            return new IntBuffer(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 2), (limit - position) << 2));
+        }
+        return new IntBuffer(intArray.<Int32Array>subarray(position, limit), order, readOnly, null);
     }
 
     /** Returns a string represents of the state of this int buffer.
@@ -377,9 +518,19 @@ public final class IntBuffer extends Buffer
         return buf.toString();
     }
 
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return intArray != null ? intArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return intArray != null ? intArray.length : dataView.buffer.byteLength;
+    }
+
     @Override
     public ArrayBufferView getTypedArray () {
-        return intArray;
+        return memory();
     }
 
     @Override
@@ -393,7 +544,7 @@ public final class IntBuffer extends Buffer
     }
 
     public boolean isReadOnly() {
-        return false;
+        return readOnly;
     }
 
     @Override
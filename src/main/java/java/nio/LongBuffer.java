@@ -17,6 +17,15 @@
 
 package java.nio;
 
+import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
+import elemental2.core.Int32Array;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
+import org.gwtproject.nio.Numbers;
+
 /** A buffer of longs.
  * <p>
  * A long buffer can be created in either of the following ways:
@@ -28,28 +37,73 @@ package java.nio;
  * buffer based on a byte buffer.</li>
  * </ul>
  */
-public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer> {
-
-//    /** Creates a long buffer based on a newly allocated long array.
-//     *
-//     * @param capacity the capacity of the new buffer.
-//     * @return the created long buffer.
-//     * @throws IllegalArgumentException if {@code capacity} is less than zero.
-//     */
-//    public static LongBuffer allocate (int capacity) {
-//        if (capacity < 0) {
-//            throw new IllegalArgumentException();
-//        }
-//        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 8);
-//        bb.order(ByteOrder.nativeOrder());
-//        return bb.asLongBuffer();
-//    }
-
-    /** Constructs a {@code LongBuffer} with given capacity.
+public final class LongBuffer extends Buffer
+        implements Comparable<LongBuffer>, org.gwtproject.nio.HasArrayBufferView {
+
+    /** Each long occupies two consecutive ints, the low one first if {@link #littleEndian} and the
+     * high one first otherwise. Only used directly when {@link #order} is the platform's native
+     * order, which makes the ints' own byte order match. {@code null} if the memory is not aligned
+     * to the size of an int. */
+    private final Int32Array intArray;
+
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
+    static LongBuffer wrap (ByteBuffer byteBuffer) {
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 3) != 0) {
+            // a typed array cannot start there
+            return new LongBuffer(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 3) << 3));
+        }
+        Int32Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.LONG_VIEW));
+        if (array == null) {
+            array = new Int32Array(byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 3) << 1);
+            byteBuffer.cacheView(ByteBuffer.LONG_VIEW, array);
+        }
+        return new LongBuffer(array, byteBuffer.order(), byteBuffer.readOnly, null);
+    }
+
+    /** Creates a long buffer based on a newly allocated long array.
      *
-     * @param capacity The capacity of the buffer */
-    LongBuffer (int capacity) {
-        super(capacity);
+     * @param capacity the capacity of the new buffer.
+     * @return the created long buffer.
+     * @throws IllegalArgumentException if {@code capacity} is less than zero.
+     */
+    public static LongBuffer allocate (int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 8, BufferMetrics.LONG);
+        bb.order(ByteOrder.nativeOrder());
+        return bb.asLongBuffer();
+    }
+
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private LongBuffer (Int32Array intArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(intArray != null ? intArray.length >> 1 : dataView.byteLength >> 3);
+        this.intArray = intArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (intArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(intArray.buffer, intArray.byteOffset, intArray.byteLength);
+        }
+        this.readOnly = readOnly;
     }
 
     /** Returns a read-only buffer that shares its content with this buffer.
@@ -62,57 +116,104 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      *
      * @return a read-only version of this buffer.
      */
-    public abstract LongBuffer asReadOnlyBuffer ();
+    public LongBuffer asReadOnlyBuffer () {
+        LongBuffer buf = new LongBuffer(intArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
 
     /** Compacts this long buffer.
-     * <p> The remaining longs will be moved to the head of the buffer, staring from position zero.
-     * Then the position is set to {@code remaining()}; the limit is set to capacity; the mark is
-     * cleared. </p>
+     * <p> The remaining longs will be moved to the head of the buffer, starting from position
+     * zero. Then the position is set to {@code remaining()}; the limit is set to capacity; the
+     * mark is cleared. </p>
      *
      * @return this buffer.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract LongBuffer compact ();
+    public LongBuffer compact () {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (intArray != null) {
+            intArray.copyWithin(0, position << 1, limit << 1);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 3, limit << 3);
+        }
+        position = limit - position;
+        limit = capacity;
+        mark = UNSET_MARK;
+        return this;
+    }
 
     /** Compare the remaining longs of this buffer to another long buffer's remaining longs.
      *
      * @param otherBuffer another long buffer.
      * @return a negative value if this is less than {@code otherBuffer}; 0 if this equals to
-     *         {@code otherBuffer}; a positive value if this is greater than {@code otherBuffer}
+     *         {@code otherBuffer}; a positive value if this is greater than {@code otherBuffer}.
      * @exception ClassCastException if {@code otherBuffer} is not a long buffer.
      */
     public int compareTo (LongBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        // BEGIN android-changed
-        long thisLong, otherLong;
-        while (compareRemaining > 0) {
-            thisLong = get(thisPos);
-            otherLong = otherBuffer.get(otherPos);
-            if (thisLong != otherLong) {
-                return thisLong < otherLong ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Long.compare(load(position + i), otherBuffer.load(otherBuffer.position + i));
         }
-        // END android-changed
         return remaining() - otherBuffer.remaining();
     }
 
+    @Override
+    public LongBuffer limit(int newLimit) {
+        return Js.uncheckedCast(super.limit(newLimit));
+    }
+
+    @Override
+    public LongBuffer position(int newPosition) {
+        return Js.uncheckedCast(super.position(newPosition));
+    }
+
+    @Override
+    public LongBuffer mark() {
+        return Js.uncheckedCast(super.mark());
+    }
+
+    @Override
+    public LongBuffer reset() {
+        return Js.uncheckedCast(super.reset());
+    }
+
+    @Override
+    public LongBuffer clear() {
+        return Js.uncheckedCast(super.clear());
+    }
+
+    @Override
+    public LongBuffer flip() {
+        return Js.uncheckedCast(super.flip());
+    }
+
+    @Override
+    public LongBuffer rewind() {
+        return Js.uncheckedCast(super.rewind());
+    }
+
     /** Returns a duplicated buffer that shares its content with this buffer.
      * <p> The duplicated buffer's position, limit, capacity and mark are the same as this buffer.
-     * The duplicated buffer's read-only property and byte order are same as this buffer's, too.
-     * </p>
+     * The duplicated buffer's read-only property and byte order are same as this buffer too. </p>
      * <p> The new buffer shares its content with this buffer, which means either buffer's change
      * of content will be visible to the other. The two buffer's position, limit and mark are
      * independent. </p>
      *
      * @return a duplicated buffer that shares its content with this buffer.
      */
-    public abstract LongBuffer duplicate ();
+    public LongBuffer duplicate () {
+        LongBuffer buf = new LongBuffer(intArray, order, readOnly, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
+    }
 
     /** Checks whether this long buffer is equal to another object.
      * <p> If {@code other} is not a long buffer then {@code false} is returned. Two long buffers
@@ -123,6 +224,9 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      * @return {@code true} if this long buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof LongBuffer)) {
             return false;
         }
@@ -131,23 +235,21 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
-    /** Returns the long at the current position and increase the position by 1.
+    /** Returns the long at the current position and increases the position by 1.
      *
      * @return the long at the current position.
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
-    public abstract long get ();
+    public long get () {
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
+    }
 
     /** Reads longs from the current position into the specified long array and increases the
      * position by the number of longs read.
@@ -162,12 +264,12 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
     }
 
     /** Reads longs from the current position into the specified long array, starting from the
-     * specified offset, and increase the position by the number of longs read.
+     * specified offset, and increases the position by the number of longs read.
      *
      * @param dest the target long array.
-     * @param off the offset of the long array, must not be negative and not greater than {@code
+     * @param off the offset of the long array, must not be negative and no greater than {@code
      * dest.length}.
-     * @param len the number of longs to read, must be no less than zero and not greater than
+     * @param len the number of longs to read, must be no less than zero and no greater than
      * {@code dest.length - off}.
      * @return this buffer.
      * @exception IndexOutOfBoundsException if either {@code off} or {@code len} is invalid.
@@ -175,41 +277,111 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      */
     public LongBuffer get (long[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)len + (long)off > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            dest[i] = get();
+        checkAttached(attachedLength());
+        BufferMetrics.elementLoop(len);
+        for (int i = 0; i < len; i++) {
+            dest[off + i] = load(position + i);
         }
+        position += len;
         return this;
     }
 
-    /** Returns the long at the specified index; the position is not changed.
+    /** Returns a long at the specified index; the position is not changed.
      *
      * @param index the index, must not be negative and less than limit.
-     * @return the long at the specified index.
+     * @return a long at the specified index.
      * @exception IndexOutOfBoundsException if index is invalid.
      */
-    public abstract long get (int index);
+    public long get (int index) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
+    }
+
+    /** Returns the long at the specified index, which the caller has checked. */
+    private long load (int index) {
+        int lo, hi;
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            int byteIndex = index << 3;
+            if (littleEndian) {
+                lo = dataView.getInt32(byteIndex, true);
+                hi = dataView.getInt32(byteIndex + 4, true);
+            } else {
+                hi = dataView.getInt32(byteIndex, false);
+                lo = dataView.getInt32(byteIndex + 4, false);
+            }
+        } else {
+            int lowIndex = (index << 1) + (littleEndian ? 0 : 1);
+            lo = Elements.get(intArray, lowIndex);
+            hi = Elements.get(intArray, lowIndex ^ 1);
+        }
+        return Numbers.toLong(hi, lo);
+    }
 
-    /** Calculates this buffer's hash code from the remaining chars. The position, limit, capacity
+    /** Returns the low 32 bits of the long at the specified index, which the caller has checked. */
+    private int loadLow (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return dataView.getInt32((index << 3) + (littleEndian ? 0 : 4), littleEndian);
+        }
+        return Elements.get(intArray, (index << 1) + (littleEndian ? 0 : 1));
+    }
+
+    /** Calculates this buffer's hash code from the remaining longs. The position, limit, capacity
      * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + (int) get(i)} for every index
+     * from {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
      *
      * @return the hash code calculated from the remaining longs.
      */
     public int hashCode () {
-        int myPosition = position;
-        int hash = 0;
-        long l;
-        while (myPosition < limit) {
-            l = get(myPosition++);
-            hash = hash + ((int)l) ^ ((int)(l >> 32));
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        checkAttached(attachedLength());
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + loadLow(i);
+        }
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining longs of
+     * this buffer and another buffer. Buffers of the same byte order are compared a word at a time.
+     *
+     * @param that the long buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining longs are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (LongBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        checkAttached(attachedLength());
+        that.checkAttached(that.attachedLength());
+        if (order == that.order && (length << 3) >= BufferMismatch.WORD_THRESHOLD) {
+            int i = BufferMismatch.mismatch(memory(), position << 3, that.memory(), that.position << 3,
+                    length << 3);
+            if (i >= 0) {
+                return i >> 3;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (load(position + i) != that.load(that.position + i)) {
+                    return i;
+                }
+            }
         }
-        return hash;
+        return remaining() == that.remaining() ? -1 : length;
     }
 
     /** Returns the byte order used by this buffer when converting longs from/to bytes.
@@ -218,16 +390,28 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      *
      * @return the byte order used by this buffer when converting longs from/to bytes.
      */
-    public abstract ByteOrder order ();
+    public ByteOrder order () {
+        return order;
+    }
 
     /** Writes the given long to the current position and increases the position by 1.
      *
-     * @param l the long to write.
+     * @param d the long to write.
      * @return this buffer.
      * @exception BufferOverflowException if position is equal or greater than limit.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract LongBuffer put (long l);
+    public LongBuffer put (long l) {
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, l);
+        return this;
+    }
 
     /** Writes longs from the given long array to the current position and increases the position
      * by the number of longs written.
@@ -242,12 +426,12 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
         return put(src, 0, src.length);
     }
 
-    /** Writes longs from the given long array, starting from the specified offset, to the current
-     * position and increases the position by the number of longs written.
+    /** Writes longs from the given long array, starting from the specified offset, to the
+     * current position and increases the position by the number of longs written.
      *
      * @param src the source long array.
      * @param off the offset of long array, must not be negative and not greater than {@code src.length}.
-     * @param len the number of longs to write, must be no less than zero and not greater than
+     * @param len the number of longs to write, must be no less than zero and no greater than
      * {@code src.length - off}.
      * @return this buffer.
      * @exception BufferOverflowException if {@code remaining()} is less than {@code len}.
@@ -256,16 +440,22 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      */
     public LongBuffer put (long[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || (long)len + (long)off > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            put(src[i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        BufferMetrics.elementLoop(len);
+        for (int i = 0; i < len; i++) {
+            store(position + i, src[off + i]);
         }
+        position += len;
         return this;
     }
 
@@ -283,24 +473,73 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        long[] contents = new long[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        src.checkAttached(src.attachedLength());
+        int len = src.remaining();
+        if (order == src.order && intArray != null && src.intArray != null) {
+            if (BufferMetrics.ENABLED && intArray.buffer == src.intArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 3);
+            }
+            intArray.set(src.intArray.<Int32Array>subarray(src.position << 1, src.limit << 1),
+                    position << 1);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, src.load(src.position + i));
+            }
+        }
+        src.position += len;
+        position += len;
         return this;
     }
 
     /** Writes a long to the specified index of this buffer; the position is not changed.
      *
      * @param index the index, must not be negative and less than the limit.
-     * @param l the long to write.
+     * @param d the long to write.
      * @return this buffer.
      * @exception IndexOutOfBoundsException if index is invalid.
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
-    public abstract LongBuffer put (int index, long l);
+    public LongBuffer put (int index, long l) {
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, l);
+        return this;
+    }
+
+    /** Writes the long to the specified index, which the caller has checked. */
+    private void store (int index, long l) {
+        int lo = (int) l;
+        int hi = (int) (l >>> 32);
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            int byteIndex = index << 3;
+            if (littleEndian) {
+                dataView.setInt32(byteIndex, lo, true);
+                dataView.setInt32(byteIndex + 4, hi, true);
+            } else {
+                dataView.setInt32(byteIndex, hi, false);
+                dataView.setInt32(byteIndex + 4, lo, false);
+            }
+        } else {
+            int lowIndex = (index << 1) + (littleEndian ? 0 : 1);
+            Elements.set(intArray, lowIndex, lo);
+            Elements.set(intArray, lowIndex ^ 1, hi);
+        }
+    }
 
     /** Returns a sliced buffer that shares its content with this buffer.
      * <p> The sliced buffer's capacity will be this buffer's {@code remaining()}, and its zero
@@ -313,7 +552,13 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
      *
      * @return a sliced buffer that shares its content with this buffer.
      */
-    public abstract LongBuffer slice ();
+    public LongBuffer slice () {
+        if (intArray == null) {
+            return new LongBuffer(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 3), (limit - position) << 3));
+        }
+        return new LongBuffer(intArray.<Int32Array>subarray(position << 1, limit << 1), order, readOnly, null);
+    }
 
     /** Returns a string representing the state of this long buffer.
      *
@@ -331,6 +576,32 @@ public abstract class LongBuffer extends Buffer implements Comparable<LongBuffer
         return buf.toString();
     }
 
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return intArray != null ? intArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return intArray != null ? intArray.length : dataView.buffer.byteLength;
+    }
+
+    public ArrayBufferView getTypedArray () {
+        return memory();
+    }
+
+    public int getElementSize () {
+        return 8;
+    }
+
+    public int getElementType() {
+        return 0x140E; // GL_INT64_ARB
+    }
+
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     @Override
     public final long[] array() {
         return (long[]) super.array();
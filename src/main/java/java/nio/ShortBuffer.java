@@ -18,8 +18,12 @@
 package java.nio;
 
 import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
 import elemental2.core.Int16Array;
+import elemental2.core.Int8Array;
 import jsinterop.base.Js;
+import org.gwtproject.nio.BufferMetrics;
+import org.gwtproject.nio.Elements;
 
 /** A buffer of shorts.
  * <p> A short buffer can be created in either of the following ways: </p>
@@ -33,11 +37,34 @@ import jsinterop.base.Js;
 public final class ShortBuffer extends Buffer
         implements Comparable<ShortBuffer>, org.gwtproject.nio.HasArrayBufferView {
 
-    private final ByteBuffer byteBuffer;
+    /** {@code null} if the memory is not aligned to the element size. */
     private final Int16Array shortArray;
 
+    /** The byte order of the underlying byte buffer when this buffer was created. */
+    private final ByteOrder order;
+    private final boolean littleEndian;
+
+    /** Only set when {@link #order} is not the platform's native order, or the memory is not
+     * aligned to the element size, in which case all element access goes through it instead of the
+     * typed array. */
+    private final DataView dataView;
+
+    private final boolean readOnly;
+
     static ShortBuffer wrap (ByteBuffer byteBuffer) {
-        return new ShortBuffer(byteBuffer.slice());
+        byteBuffer.checkAttached(byteBuffer.byteArray.length);
+        int byteOffset = byteBuffer.byteArray.byteOffset + byteBuffer.position;
+        if ((byteOffset & 1) != 0) {
+            // a typed array cannot start there
+            return new ShortBuffer(null, byteBuffer.order(), byteBuffer.readOnly, new DataView(
+                    byteBuffer.byteArray.buffer, byteOffset, (byteBuffer.remaining() >> 1) << 1));
+        }
+        Int16Array array = Js.uncheckedCast(byteBuffer.cachedView(ByteBuffer.SHORT_VIEW));
+        if (array == null) {
+            array = new Int16Array(byteBuffer.byteArray.buffer, byteOffset, byteBuffer.remaining() >> 1);
+            byteBuffer.cacheView(ByteBuffer.SHORT_VIEW, array);
+        }
+        return new ShortBuffer(array, byteBuffer.order(), byteBuffer.readOnly, null);
     }
 
     /** Creates a short buffer based on a newly allocated short array.
@@ -50,18 +77,45 @@ public final class ShortBuffer extends Buffer
         if (capacity < 0) {
             throw new IllegalArgumentException();
         }
-        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 2);
+        ByteBuffer bb = ByteBuffer.allocateDirect(capacity * 2, BufferMetrics.SHORT);
         bb.order(ByteOrder.nativeOrder());
         return bb.asShortBuffer();
     }
 
-    ShortBuffer(ByteBuffer byteBuffer) {
-        super((byteBuffer.capacity() >> 1));
-        this.byteBuffer = byteBuffer;
-        this.byteBuffer.clear();
-        this.shortArray = new Int16Array(
-                byteBuffer.byteArray.buffer,
-                byteBuffer.byteArray.byteOffset, capacity);
+    /** Creates a buffer over the given typed array, or over the given data view alone if the
+     * memory is not aligned. The data view is shared with the buffer this one is a duplicate of, if
+     * any, and otherwise created here when the order is not native. */
+    private ShortBuffer (Int16Array shortArray, ByteOrder order, boolean readOnly, DataView dataView) {
+        super(shortArray != null ? shortArray.length : dataView.byteLength >> 1);
+        this.shortArray = shortArray;
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        if (shortArray != null && order == ByteOrder.nativeOrder()) {
+            this.dataView = null;
+        } else if (dataView != null) {
+            this.dataView = dataView;
+        } else {
+            this.dataView = new DataView(shortArray.buffer, shortArray.byteOffset, shortArray.byteLength);
+        }
+        this.readOnly = readOnly;
+    }
+
+    /** Returns a read-only buffer that shares its content with this buffer.
+     * <p> The returned buffer is guaranteed to be a new instance, even if this buffer is read-only
+     * itself. The new buffer's position, limit, capacity and mark are the same as this buffer's.
+     * </p>
+     * <p> The new buffer shares its content with this buffer, which means this buffer's change of
+     * content will be visible to the new buffer. The two buffer's position, limit and mark are
+     * independent. </p>
+     *
+     * @return a read-only version of this buffer.
+     */
+    public ShortBuffer asReadOnlyBuffer () {
+        ShortBuffer buf = new ShortBuffer(shortArray, order, true, dataView);
+        buf.limit = limit;
+        buf.position = position;
+        buf.mark = mark;
+        return buf;
     }
 
     /** Compacts this short buffer.
@@ -73,10 +127,15 @@ public final class ShortBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ShortBuffer compact () {
-        byteBuffer.limit(limit << 1);
-        byteBuffer.position(position << 1);
-        byteBuffer.compact();
-        byteBuffer.clear();
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        if (shortArray != null) {
+            shortArray.copyWithin(0, position, limit);
+        } else {
+            new Int8Array(dataView.buffer, dataView.byteOffset, dataView.byteLength)
+                    .copyWithin(0, position << 1, limit << 1);
+        }
         position = limit - position;
         limit = capacity;
         mark = UNSET_MARK;
@@ -91,20 +150,9 @@ public final class ShortBuffer extends Buffer
      * @exception ClassCastException if {@code otherBuffer} is not a short buffer.
      */
     public int compareTo (ShortBuffer otherBuffer) {
-        int compareRemaining = (remaining() < otherBuffer.remaining()) ?
-                remaining() : otherBuffer.remaining();
-        int thisPos = position;
-        int otherPos = otherBuffer.position;
-        short thisByte, otherByte;
-        while (compareRemaining > 0) {
-            thisByte = get(thisPos);
-            otherByte = otherBuffer.get(otherPos);
-            if (thisByte != otherByte) {
-                return thisByte < otherByte ? -1 : 1;
-            }
-            thisPos++;
-            otherPos++;
-            compareRemaining--;
+        int i = mismatch(otherBuffer);
+        if (i >= 0 && i < Math.min(remaining(), otherBuffer.remaining())) {
+            return Short.compare(load(position + i), otherBuffer.load(otherBuffer.position + i));
         }
         return remaining() - otherBuffer.remaining();
     }
@@ -155,7 +203,7 @@ public final class ShortBuffer extends Buffer
      * @return a duplicated buffer that shares its content with this buffer.
      */
     public ShortBuffer duplicate () {
-        ShortBuffer buf = new ShortBuffer(byteBuffer.duplicate());
+        ShortBuffer buf = new ShortBuffer(shortArray, order, readOnly, dataView);
         buf.limit = limit;
         buf.position = position;
         buf.mark = mark;
@@ -171,6 +219,9 @@ public final class ShortBuffer extends Buffer
      * @return {@code true} if this short buffer is equal to {@code other}, {@code false} otherwise.
      */
     public boolean equals (Object other) {
+        if (this == other) {
+            return true;
+        }
         if (!(other instanceof ShortBuffer)) {
             return false;
         }
@@ -179,15 +230,7 @@ public final class ShortBuffer extends Buffer
         if (remaining() != otherBuffer.remaining()) {
             return false;
         }
-
-        int myPosition = position;
-        int otherPosition = otherBuffer.position;
-        boolean equalSoFar = true;
-        while (equalSoFar && (myPosition < limit)) {
-            equalSoFar = get(myPosition++) == otherBuffer.get(otherPosition++);
-        }
-
-        return equalSoFar;
+        return mismatch(otherBuffer) < 0;
     }
 
     /** Returns the short at the current position and increases the position by 1.
@@ -196,10 +239,11 @@ public final class ShortBuffer extends Buffer
      * @exception BufferUnderflowException if the position is equal or greater than limit.
      */
     public short get () {
-        // if (position == limit) {
-        // throw new BufferUnderflowException();
-        // }
-        return (short)(double)shortArray.getAt(position++);
+        if (CHECKED && position >= limit) {
+            throw new BufferUnderflowException();
+        }
+        checkAttached(attachedLength());
+        return load(position++);
     }
 
     /** Reads shorts from the current position into the specified short array and increases the
@@ -228,15 +272,24 @@ public final class ShortBuffer extends Buffer
      */
     public ShortBuffer get (short[] dest, int off, int len) {
         int length = dest.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferUnderflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            dest[i] = get();
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dest[off + i] = (short) dataView.getInt16((position + i) << 1, littleEndian);
+            }
+        } else {
+            BufferMetrics.elementLoop(len);
+            Elements.copy(shortArray, position, dest, off, len);
         }
+        position += len;
         return this;
     }
 
@@ -247,24 +300,67 @@ public final class ShortBuffer extends Buffer
      * @exception IndexOutOfBoundsException if index is invalid.
      */
     public short get (int index) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        return (short)(double)shortArray.getAt(index);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        checkAttached(attachedLength());
+        return load(index);
     }
 
-    /** Calculates this buffer's hash code from the remaining chars. The position, limit, capacity
+    /** Returns the short at the specified index, which the caller has checked. */
+    private short load (int index) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            return (short) dataView.getInt16(index << 1, littleEndian);
+        }
+        return Elements.get(shortArray, index);
+    }
+
+    /** Calculates this buffer's hash code from the remaining shorts. The position, limit, capacity
      * and mark don't affect the hash code.
+     * <p> The hash code is the same as the JDK's, {@code h = 31 * h + get(i)} for every index
+     * from {@code limit - 1} down to {@code position}, starting from {@code h = 1}. </p>
      *
      * @return the hash code calculated from the remaining shorts.
      */
     public int hashCode () {
-        int myPosition = position;
-        int hash = 0;
-        while (myPosition < limit) {
-            hash = hash + get(myPosition++);
+        if (hasCachedHash()) {
+            return cachedHash();
+        }
+        checkAttached(attachedLength());
+        int h = 1;
+        for (int i = limit - 1; i >= position; i--) {
+            h = 31 * h + load(i);
+        }
+        return cacheHash(h);
+    }
+
+    /** Finds and returns the relative index of the first mismatch between the remaining shorts of
+     * this buffer and another buffer. Buffers of the same byte order are compared a word at a time.
+     *
+     * @param that the short buffer to be tested for a mismatch with this buffer.
+     * @return the relative index of the first mismatch, otherwise -1 if there is no mismatch. If
+     *         one buffer's remaining shorts are a prefix of the other's, the smaller of the two
+     *         remaining counts is returned.
+     */
+    public int mismatch (ShortBuffer that) {
+        int length = Math.min(remaining(), that.remaining());
+        checkAttached(attachedLength());
+        that.checkAttached(that.attachedLength());
+        if (order == that.order && (length << 1) >= BufferMismatch.WORD_THRESHOLD) {
+            int i = BufferMismatch.mismatch(memory(), position << 1, that.memory(), that.position << 1,
+                    length << 1);
+            if (i >= 0) {
+                return i >> 1;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (load(position + i) != that.load(that.position + i)) {
+                    return i;
+                }
+            }
         }
-        return hash;
+        return remaining() == that.remaining() ? -1 : length;
     }
 
     /** Returns the byte order used by this buffer when converting shorts from/to bytes.
@@ -274,7 +370,7 @@ public final class ShortBuffer extends Buffer
      * @return the byte order used by this buffer when converting shorts from/to bytes.
      */
     public ByteOrder order () {
-        return ByteOrder.nativeOrder();
+        return order;
     }
 
     /** Writes the given short to the current position and increases the position by 1.
@@ -285,10 +381,14 @@ public final class ShortBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ShortBuffer put (short c) {
-        // if (position == limit) {
-        // throw new BufferOverflowException();
-        // }
-        shortArray.setAt(position++, (double) c);
+        if (CHECKED && position >= limit) {
+            throw new BufferOverflowException();
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(position++, c);
         return this;
     }
 
@@ -319,16 +419,27 @@ public final class ShortBuffer extends Buffer
      */
     public ShortBuffer put (short[] src, int off, int len) {
         int length = src.length;
-        if (off < 0 || len < 0 || (long)off + (long)len > length) {
+        if (CHECKED && (off < 0 || len < 0 || off > length - len)) {
             throw new IndexOutOfBoundsException();
         }
 
-        if (len > remaining()) {
+        if (CHECKED && len > remaining()) {
             throw new BufferOverflowException();
         }
-        for (int i = off; i < off + len; i++) {
-            put(src[i]);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        if (dataView != null) {
+            BufferMetrics.elementLoop(len);
+            BufferMetrics.dataViewAccess(len);
+            for (int i = 0; i < len; i++) {
+                dataView.setInt16((position + i) << 1, src[off + i], littleEndian);
+            }
+        } else {
+            Elements.copy(src, off, shortArray, position, len);
         }
+        position += len;
         return this;
     }
 
@@ -346,12 +457,29 @@ public final class ShortBuffer extends Buffer
         if (src == this) {
             throw new IllegalArgumentException();
         }
-        if (src.remaining() > remaining()) {
+        if (CHECKED && src.remaining() > remaining()) {
             throw new BufferOverflowException();
         }
-        short[] contents = new short[src.remaining()];
-        src.get(contents);
-        put(contents);
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        src.checkAttached(src.attachedLength());
+        int len = src.remaining();
+        if (order == src.order && shortArray != null && src.shortArray != null) {
+            if (BufferMetrics.ENABLED && shortArray.buffer == src.shortArray.buffer) {
+                // set() copies through a temporary if both views share the same ArrayBuffer
+                BufferMetrics.temporaryCopy(len << 1);
+            }
+            shortArray.set(src.shortArray.<Int16Array>subarray(src.position, src.limit), position);
+        } else {
+            BufferMetrics.elementLoop(len);
+            for (int i = 0; i < len; i++) {
+                store(position + i, src.load(src.position + i));
+            }
+        }
+        src.position += len;
+        position += len;
         return this;
     }
 
@@ -364,13 +492,27 @@ public final class ShortBuffer extends Buffer
      * @exception ReadOnlyBufferException if no changes may be made to the contents of this buffer.
      */
     public ShortBuffer put (int index, short c) {
-        // if (index < 0 || index >= limit) {
-        // throw new IndexOutOfBoundsException();
-        // }
-        shortArray.setAt(index, (double) c);
+        if (CHECKED) {
+            checkIndex(index);
+        }
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+        checkAttached(attachedLength());
+        store(index, c);
         return this;
     }
 
+    /** Writes the short to the specified index, which the caller has checked. */
+    private void store (int index, short c) {
+        if (dataView != null) {
+            BufferMetrics.dataViewAccess(1);
+            dataView.setInt16(index << 1, c, littleEndian);
+        } else {
+            Elements.set(shortArray, index, c);
+        }
+    }
+
     /** Returns a sliced buffer that shares its content with this buffer.
      * <p> The sliced buffer's capacity will be this buffer's {@code remaining()}, and its zero
      * position will correspond to this buffer's current position. The new buffer's position will
@@ -383,11 +525,11 @@ public final class ShortBuffer extends Buffer
      * @return a sliced buffer that shares its content with this buffer.
      */
     public ShortBuffer slice () {
-        byteBuffer.limit(limit << 1);
-        byteBuffer.position(position << 1);
-        ShortBuffer result = new ShortBuffer(byteBuffer.slice());
-        byteBuffer.clear();
-        return result;
+        if (shortArray == null) {
+            return new ShortBuffer(null, order, readOnly, new DataView(dataView.buffer,
+                    dataView.byteOffset + (position << 1), (limit - position) << 1));
+        }
+        return new ShortBuffer(shortArray.<Int16Array>subarray(position, limit), order, readOnly, null);
     }
 
     /** Returns a string representing the state of this short buffer.
@@ -406,9 +548,19 @@ public final class ShortBuffer extends Buffer
         return buf.toString();
     }
 
+    /** Returns the typed array, or the data view if there is none. */
+    private ArrayBufferView memory () {
+        return shortArray != null ? shortArray : dataView;
+    }
+
+    /** Returns the length of the memory, which is zero once it has been transferred. */
+    private int attachedLength () {
+        return shortArray != null ? shortArray.length : dataView.buffer.byteLength;
+    }
+
     @Override
     public ArrayBufferView getTypedArray () {
-        return shortArray;
+        return memory();
     }
 
     @Override
@@ -422,7 +574,7 @@ public final class ShortBuffer extends Buffer
     }
 
     public boolean isReadOnly() {
-        return false;
+        return readOnly;
     }
 
     @Override
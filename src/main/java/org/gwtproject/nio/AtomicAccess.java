@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.ArrayBufferView;
+import elemental2.core.Atomics;
+import elemental2.core.Int16Array;
+import elemental2.core.Int32Array;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+
+/**
+ * Atomic access to the int and short slots of a byte buffer, built on the JavaScript
+ * {@code Atomics} object. This plays the role of {@code MethodHandles.byteBufferViewVarHandle} on
+ * the JDK.
+ * <p>
+ * Atomic operations are only meaningful when the buffer is backed by a {@code SharedArrayBuffer}
+ * (see {@link TypedArrayHelper#allocateShared(int)}) that is shared with workers. They also work on
+ * plain {@code ArrayBuffer}s.
+ * </p>
+ * <p>
+ * Indices are byte indices into the buffer, as for {@link ByteBuffer#getInt(int)}, and must be
+ * aligned to the size of the accessed type. Values use the byte order the buffer had when this
+ * object was created. For the platform's native order, every operation is a single
+ * {@code Atomics} call.
+ * </p>
+ */
+public final class AtomicAccess {
+
+    /**
+     * Creates atomic access to the memory of the given buffer.
+     */
+    public static AtomicAccess of(ByteBuffer buffer) {
+        return new AtomicAccess(buffer);
+    }
+
+    private final ArrayBuffer memory;
+    /** Byte offset of the buffer's index zero in {@link #memory}. */
+    private final int base;
+    private final int capacity;
+    private final boolean swapped;
+    private final boolean readOnly;
+
+    /** Created on first use, both cover all of {@link #memory} so that any aligned slot can be reached. */
+    private Int32Array ints;
+    private Int16Array shorts;
+
+    private AtomicAccess(ByteBuffer buffer) {
+        ArrayBufferView view = TypedArrayHelper.unwrap(buffer);
+        this.memory = view.buffer;
+        this.base = view.byteOffset;
+        this.capacity = buffer.capacity();
+        this.swapped = buffer.order() != ByteOrder.nativeOrder();
+        this.readOnly = buffer.isReadOnly();
+    }
+
+    /** Atomically reads the int at the given byte index. */
+    public int loadInt(int index) {
+        int value = (int) Atomics.load(ints(), intSlot(index));
+        return swapped ? Integer.reverseBytes(value) : value;
+    }
+
+    /** Atomically writes the int at the given byte index. */
+    public void storeInt(int index, int value) {
+        checkWritable();
+        Atomics.store(ints(), intSlot(index), swapped ? Integer.reverseBytes(value) : value);
+    }
+
+    /**
+     * Atomically sets the int at the given byte index to {@code newValue} if it currently is
+     * {@code expected}.
+     *
+     * @return {@code true} if the value was set.
+     */
+    public boolean compareAndSetInt(int index, int expected, int newValue) {
+        checkWritable();
+        if (swapped) {
+            expected = Integer.reverseBytes(expected);
+            newValue = Integer.reverseBytes(newValue);
+        }
+        return (int) Atomics.compareExchange(ints(), intSlot(index), expected, newValue) == expected;
+    }
+
+    /**
+     * Atomically adds {@code delta} to the int at the given byte index.
+     *
+     * @return the value before the addition.
+     */
+    public int getAndAddInt(int index, int delta) {
+        checkWritable();
+        int slot = intSlot(index);
+        Int32Array ints = ints();
+        if (!swapped) {
+            return (int) Atomics.add(ints, slot, delta);
+        }
+        // the addition has to happen in the native order, so retry until no one else interfered
+        while (true) {
+            int current = (int) Atomics.load(ints, slot);
+            int value = Integer.reverseBytes(current);
+            int next = Integer.reverseBytes(value + delta);
+            if ((int) Atomics.compareExchange(ints, slot, current, next) == current) {
+                return value;
+            }
+        }
+    }
+
+    /** Atomically reads the short at the given byte index. */
+    public short loadShort(int index) {
+        short value = (short) Atomics.load(shorts(), shortSlot(index));
+        return swapped ? Short.reverseBytes(value) : value;
+    }
+
+    /** Atomically writes the short at the given byte index. */
+    public void storeShort(int index, short value) {
+        checkWritable();
+        Atomics.store(shorts(), shortSlot(index), swapped ? Short.reverseBytes(value) : value);
+    }
+
+    /**
+     * Atomically sets the short at the given byte index to {@code newValue} if it currently is
+     * {@code expected}.
+     *
+     * @return {@code true} if the value was set.
+     */
+    public boolean compareAndSetShort(int index, short expected, short newValue) {
+        checkWritable();
+        if (swapped) {
+            expected = Short.reverseBytes(expected);
+            newValue = Short.reverseBytes(newValue);
+        }
+        return (short) Atomics.compareExchange(shorts(), shortSlot(index), expected, newValue) == expected;
+    }
+
+    /**
+     * Atomically adds {@code delta} to the short at the given byte index, wrapping around on
+     * overflow.
+     *
+     * @return the value before the addition.
+     */
+    public short getAndAddShort(int index, short delta) {
+        checkWritable();
+        int slot = shortSlot(index);
+        Int16Array shorts = shorts();
+        if (!swapped) {
+            return (short) Atomics.add(shorts, slot, delta);
+        }
+        while (true) {
+            short current = (short) Atomics.load(shorts, slot);
+            short value = Short.reverseBytes(current);
+            short next = Short.reverseBytes((short) (value + delta));
+            if ((short) Atomics.compareExchange(shorts, slot, current, next) == current) {
+                return value;
+            }
+        }
+    }
+
+    private Int32Array ints() {
+        Int32Array array = ints;
+        if (array == null) {
+            array = ints = new Int32Array(memory, 0, memory.byteLength >> 2);
+        }
+        return array;
+    }
+
+    private Int16Array shorts() {
+        Int16Array array = shorts;
+        if (array == null) {
+            array = shorts = new Int16Array(memory, 0, memory.byteLength >> 1);
+        }
+        return array;
+    }
+
+    /** Returns the slot of {@link #ints} that holds the int at the given byte index. */
+    private int intSlot(int index) {
+        if (index < 0 || index > capacity - 4) {
+            throw new IndexOutOfBoundsException();
+        }
+        int offset = base + index;
+        if ((offset & 3) != 0) {
+            throw new IllegalStateException("Misaligned access at index: " + index);
+        }
+        return offset >> 2;
+    }
+
+    /** Returns the slot of {@link #shorts} that holds the short at the given byte index. */
+    private int shortSlot(int index) {
+        if (index < 0 || index > capacity - 2) {
+            throw new IndexOutOfBoundsException();
+        }
+        int offset = base + index;
+        if ((offset & 1) != 0) {
+            throw new IllegalStateException("Misaligned access at index: " + index);
+        }
+        return offset >> 1;
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new ReadOnlyBufferException();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBuffer;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+/**
+ * Counts how much memory the buffers use and how often they take slow paths.
+ * <p>
+ * Metrics are off unless the {@code gwt.nio.metrics} property is {@code true}: set the GWT
+ * configuration property of that name, or pass it as a J2CL define. When off, {@link #ENABLED} is a
+ * compile-time constant {@code false} and all recording compiles away.
+ * </p>
+ * <p>
+ * Counted are the bytes allocated per buffer type, and the bytes still alive where
+ * {@code FinalizationRegistry} is available; bulk copies that need a temporary copy because
+ * source and destination share memory; bulk transfers that fall back to a loop over the elements;
+ * and element accesses through a {@code DataView} because of non-native byte order or unaligned
+ * memory. Bulk transfers above {@link #setMeasureThreshold(int) a threshold} can also show up in
+ * the browser's performance timeline as {@code performance.measure} entries.
+ * </p>
+ */
+public final class BufferMetrics {
+
+    /** Whether metrics are recorded at all. */
+    public static final boolean ENABLED = "true".equals(System.getProperty("gwt.nio.metrics", "false"));
+
+    public static final int BYTE = 0;
+    public static final int CHAR = 1;
+    public static final int SHORT = 2;
+    public static final int INT = 3;
+    public static final int LONG = 4;
+    public static final int FLOAT = 5;
+    public static final int DOUBLE = 6;
+    private static final int TYPES = 7;
+
+    // all state is created on first use, so that there is nothing to initialize when disabled
+    private static double[] allocatedBytes;
+    private static double[] liveBytes;
+    private static double temporaryCopies;
+    private static double temporaryCopyBytes;
+    private static double elementLoops;
+    private static double loopedElements;
+    private static double dataViewAccesses;
+    private static BufferPool.FinalizationRegistry liveRegistry;
+    private static boolean liveTracked;
+    private static int measureThreshold;
+
+    private BufferMetrics() {
+    }
+
+    /** Records a newly allocated buffer of the given type. */
+    public static void allocated(int type, ArrayBuffer memory) {
+        if (!ENABLED) {
+            return;
+        }
+        init();
+        int bytes = memory.byteLength;
+        allocatedBytes[type] += bytes;
+        if (liveRegistry != null) {
+            liveBytes[type] += bytes;
+            liveRegistry.register(memory, new double[] {type, bytes}, Js.undefined());
+        }
+    }
+
+    /** Records a bulk copy of the given number of bytes that had to go through a temporary copy. */
+    public static void temporaryCopy(int bytes) {
+        if (ENABLED) {
+            temporaryCopies++;
+            temporaryCopyBytes += bytes;
+        }
+    }
+
+    /** Records a bulk transfer that loops over the given number of elements one by one. */
+    public static void elementLoop(int elements) {
+        if (ENABLED) {
+            elementLoops++;
+            loopedElements += elements;
+        }
+    }
+
+    /** Records the given number of element accesses through a {@code DataView}. */
+    public static void dataViewAccess(int elements) {
+        if (ENABLED) {
+            dataViewAccesses += elements;
+        }
+    }
+
+    /**
+     * Marks the start of a bulk transfer of the given number of bytes in the performance timeline,
+     * if it is large enough.
+     *
+     * @return the value to pass to {@link #measureEnd(String, boolean)}.
+     */
+    public static boolean measureStart(String name, int bytes) {
+        if (!ENABLED || measureThreshold <= 0 || bytes < measureThreshold) {
+            return false;
+        }
+        Performance performance = performance();
+        if (performance == null) {
+            return false;
+        }
+        performance.mark(name);
+        return true;
+    }
+
+    /** Adds a {@code performance.measure} entry for a transfer started with {@link #measureStart}. */
+    public static void measureEnd(String name, boolean started) {
+        if (ENABLED && started) {
+            Performance performance = performance();
+            performance.measure(name, name);
+            performance.clearMarks(name);
+        }
+    }
+
+    /**
+     * Sets the number of bytes from which bulk transfers are measured in the performance timeline,
+     * or 0, the default, to measure none.
+     */
+    public static void setMeasureThreshold(int bytes) {
+        measureThreshold = bytes;
+    }
+
+    /** Returns the number of bytes allocated for buffers of the given type. */
+    public static double getAllocatedBytes(int type) {
+        return allocatedBytes == null ? 0 : allocatedBytes[type];
+    }
+
+    /**
+     * Returns the number of bytes allocated for buffers of the given type that have not been garbage
+     * collected yet, or -1 if that is not known on this platform.
+     */
+    public static double getLiveBytes(int type) {
+        if (!liveTracked) {
+            return -1;
+        }
+        return liveBytes[type];
+    }
+
+    /** Returns the number of bulk copies that went through a temporary copy. */
+    public static double getTemporaryCopyCount() {
+        return temporaryCopies;
+    }
+
+    /** Returns the number of bytes copied through temporary copies. */
+    public static double getTemporaryCopyBytes() {
+        return temporaryCopyBytes;
+    }
+
+    /** Returns the number of bulk transfers that looped over their elements. */
+    public static double getElementLoopCount() {
+        return elementLoops;
+    }
+
+    /** Returns the number of elements transferred by such loops. */
+    public static double getLoopedElementCount() {
+        return loopedElements;
+    }
+
+    /** Returns the number of element accesses through a {@code DataView}. */
+    public static double getDataViewAccessCount() {
+        return dataViewAccesses;
+    }
+
+    /** Sets all counters back to zero, except for the live bytes. */
+    public static void reset() {
+        if (allocatedBytes != null) {
+            for (int i = 0; i < TYPES; i++) {
+                allocatedBytes[i] = 0;
+            }
+        }
+        temporaryCopies = 0;
+        temporaryCopyBytes = 0;
+        elementLoops = 0;
+        loopedElements = 0;
+        dataViewAccesses = 0;
+    }
+
+    /** Returns all counters as a JSON object, for logging or collecting. */
+    public static String toJson() {
+        StringBuilder sb = new StringBuilder("{\"enabled\":").append(ENABLED);
+        for (int type = 0; type < TYPES; type++) {
+            sb.append(",\"").append(typeName(type)).append("\":{\"allocatedBytes\":")
+                    .append(getAllocatedBytes(type)).append(",\"liveBytes\":").append(getLiveBytes(type))
+                    .append('}');
+        }
+        return sb.append(",\"temporaryCopies\":").append(temporaryCopies)
+                .append(",\"temporaryCopyBytes\":").append(temporaryCopyBytes)
+                .append(",\"elementLoops\":").append(elementLoops)
+                .append(",\"loopedElements\":").append(loopedElements)
+                .append(",\"dataViewAccesses\":").append(dataViewAccesses)
+                .append('}').toString();
+    }
+
+    private static String typeName(int type) {
+        switch (type) {
+            case BYTE: return "byte";
+            case CHAR: return "char";
+            case SHORT: return "short";
+            case INT: return "int";
+            case LONG: return "long";
+            case FLOAT: return "float";
+            default: return "double";
+        }
+    }
+
+    private static void init() {
+        if (allocatedBytes != null) {
+            return;
+        }
+        allocatedBytes = new double[TYPES];
+        liveBytes = new double[TYPES];
+        if (BufferPool.isFinalizationRegistrySupported()) {
+            liveTracked = true;
+            liveRegistry = new BufferPool.FinalizationRegistry(new BufferPool.FinalizationRegistry.CleanupCallback() {
+                @Override
+                public void onCleanup(Object heldValue) {
+                    double[] typeAndBytes = Js.uncheckedCast(heldValue);
+                    liveBytes[(int) typeAndBytes[0]] -= typeAndBytes[1];
+                }
+            });
+        }
+    }
+
+    @JsProperty(namespace = JsPackage.GLOBAL, name = "performance")
+    private static native Object performanceObject();
+
+    private static Performance performance() {
+        try {
+            Object performance = performanceObject();
+            if (performance != null && "function".equals(Js.typeof(Js.asPropertyMap(performance).get("measure")))) {
+                return Js.uncheckedCast(performance);
+            }
+        } catch (Exception e) {
+            // not even declared
+        }
+        return null;
+    }
+
+    @JsType(isNative = true, name = "Performance", namespace = JsPackage.GLOBAL)
+    private interface Performance {
+        void mark(String name);
+
+        void measure(String name, String startMark);
+
+        void clearMarks(String name);
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.ArrayBufferView;
+import elemental2.core.Int32Array;
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands out buffers over pooled {@code ArrayBuffer}s, to avoid garbage collection pauses caused by
+ * short-lived buffers that are allocated over and over again.
+ * <p>
+ * Memory is pooled in power-of-two size classes. A request is served from the smallest class that
+ * fits it, and the buffer's capacity is exactly the requested one. Buffers have to be given back
+ * with {@link #release(HasArrayBufferView)} once they are no longer used, after which neither they
+ * nor any duplicate, slice or view of them may be touched again. Requests larger than the largest
+ * pooled class are allocated and dropped as usual.
+ * </p>
+ * <p>
+ * Like {@link ByteBuffer#allocate(int)}, every buffer starts out filled with zeros.
+ * </p>
+ */
+public final class BufferPool {
+
+    /** Called for pooled memory that was garbage collected without being released. */
+    public interface LeakListener {
+        /**
+         * @param capacity the capacity, in bytes, the leaked memory was requested with.
+         */
+        void onLeak(int capacity);
+    }
+
+    /** The byte released memory is filled with in debug mode. Reads as 0xDBDBDBDB ints, and as
+     * about -1.24E17 floats. */
+    private static final int POISON = 0xDB;
+    private static final int POISON_WORD = 0xDBDBDBDB;
+
+    /** The property that marks memory with the pool that allocated it. */
+    private static final String OWNER = "$gwtBufferPool";
+
+    private static final int MIN_CLASS = 6;
+    private static final int MAX_CLASS = 30;
+
+    private final int maxPooledSize;
+    private final int maxPerClass;
+    /** The free memory of each size class, indexed by the class. */
+    private final List<List<ArrayBuffer>> free;
+    private final int[] hits;
+    private final int[] misses;
+    /** The misses of requests too large to pool, which belong to no size class. */
+    private int oversizedMisses;
+    private int releases;
+    private int pooledBytes;
+
+    private boolean debug;
+    private FinalizationRegistry leakRegistry;
+
+    /**
+     * Creates a pool for buffers of up to 16 MB, keeping up to 32 free buffers per size class.
+     */
+    public BufferPool() {
+        this(1 << 24, 32);
+    }
+
+    /**
+     * @param maxPooledSize the largest capacity, in bytes, that is served from the pool.
+     * @param maxPerClass the number of free buffers kept per size class, any more released buffers
+     *                    are dropped.
+     */
+    public BufferPool(int maxPooledSize, int maxPerClass) {
+        if (maxPooledSize < 0 || maxPooledSize > 1 << MAX_CLASS || maxPerClass < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maxPooledSize = maxPooledSize;
+        this.maxPerClass = maxPerClass;
+        this.free = new ArrayList<>(MAX_CLASS + 1);
+        for (int i = 0; i <= MAX_CLASS; i++) {
+            free.add(new ArrayList<>());
+        }
+        this.hits = new int[MAX_CLASS + 1];
+        this.misses = new int[MAX_CLASS + 1];
+    }
+
+    /**
+     * Turns debug mode on or off. In debug mode, released memory is poisoned, so that reading it
+     * through a buffer that is still held on to returns obviously wrong values, and it is checked
+     * to still be poisoned when handed out again, so that writing to it after release fails with an
+     * {@code IllegalStateException}. Releasing the same memory twice fails, too.
+     */
+    public BufferPool setDebug(boolean debug) {
+        this.debug = debug;
+        return this;
+    }
+
+    /**
+     * Reports pooled memory that is garbage collected without having been released to the given
+     * listener, or stops reporting if it is {@code null}. Has no effect where
+     * {@code FinalizationRegistry} is not available. Reports come some time after the memory
+     * became unreachable, if at all.
+     *
+     * @return whether leaks will be reported.
+     */
+    public boolean setLeakListener(final LeakListener listener) {
+        if (listener == null || !isFinalizationRegistrySupported()) {
+            leakRegistry = null;
+            return false;
+        }
+        leakRegistry = new FinalizationRegistry(new FinalizationRegistry.CleanupCallback() {
+            @Override
+            public void onCleanup(Object heldValue) {
+                listener.onLeak(Js.asInt(heldValue));
+            }
+        });
+        return true;
+    }
+
+    /**
+     * Returns a byte buffer of the given capacity, in big-endian order like
+     * {@link ByteBuffer#allocate(int)}.
+     */
+    public ByteBuffer allocate(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        return ByteBuffer.wrapArrayBuffer(acquire(capacity), capacity, 0);
+    }
+
+    /** Returns a float buffer of the given capacity, in native order like {@link FloatBuffer#allocate(int)}. */
+    public FloatBuffer allocateFloats(int capacity) {
+        return allocate(capacity * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /** Returns an int buffer of the given capacity, in native order like {@link IntBuffer#allocate(int)}. */
+    public IntBuffer allocateInts(int capacity) {
+        return allocate(capacity * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /** Returns a short buffer of the given capacity, in native order like {@link ShortBuffer#allocate(int)}. */
+    public ShortBuffer allocateShorts(int capacity) {
+        return allocate(capacity * 2).order(ByteOrder.nativeOrder()).asShortBuffer();
+    }
+
+    /**
+     * Gives the memory of a buffer returned by this pool back. Accepts the returned buffer itself as
+     * well as any duplicate, slice or view of it.
+     *
+     * @throws IllegalArgumentException if the buffer's memory does not come from this pool.
+     * @throws IllegalStateException in debug mode, if the memory has already been released.
+     */
+    public void release(HasArrayBufferView buffer) {
+        ArrayBufferView view = buffer.getTypedArray();
+        ArrayBuffer memory = view.buffer;
+        if (Js.asPropertyMap(memory).get(OWNER) != this) {
+            throw new IllegalArgumentException("Memory of " + memory.byteLength + " bytes not from this pool");
+        }
+        int size = memory.byteLength;
+        if (leakRegistry != null) {
+            leakRegistry.unregister(memory);
+        }
+        if (size > maxPooledSize) {
+            // was never pooled, leave it to the garbage collector
+            return;
+        }
+        int sizeClass = sizeClass(size);
+        List<ArrayBuffer> list = free.get(sizeClass);
+        if (debug) {
+            for (int i = 0, n = list.size(); i < n; i++) {
+                if (list.get(i) == memory) {
+                    throw new IllegalStateException("Memory released twice");
+                }
+            }
+            new Uint8Array(memory).fill(POISON);
+        }
+        releases++;
+        if (list.size() < maxPerClass) {
+            list.add(memory);
+            pooledBytes += size;
+        }
+    }
+
+    /** Drops all free memory held by this pool. */
+    public void clear() {
+        for (int i = 0; i <= MAX_CLASS; i++) {
+            free.get(i).clear();
+        }
+        pooledBytes = 0;
+    }
+
+    /** Returns the number of requests served with free memory of the pool. */
+    public int getHitCount() {
+        int count = 0;
+        for (int h : hits) {
+            count += h;
+        }
+        return count;
+    }
+
+    /** Returns the number of requests that needed new memory, including the ones too large to pool. */
+    public int getMissCount() {
+        int count = oversizedMisses;
+        for (int m : misses) {
+            count += m;
+        }
+        return count;
+    }
+
+    /** Returns the number of requests too large to pool, which are part of {@link #getMissCount()}. */
+    public int getOversizedMissCount() {
+        return oversizedMisses;
+    }
+
+    /** Returns the number of released buffers. */
+    public int getReleaseCount() {
+        return releases;
+    }
+
+    /** Returns the number of bytes of free memory held by this pool. */
+    public int getPooledBytes() {
+        return pooledBytes;
+    }
+
+    /** Sets all counters back to zero. */
+    public void resetStatistics() {
+        for (int i = 0; i <= MAX_CLASS; i++) {
+            hits[i] = 0;
+            misses[i] = 0;
+        }
+        oversizedMisses = 0;
+        releases = 0;
+    }
+
+    /** Returns the statistics of this pool, with hits and misses per size class. */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("BufferPool[hits=").append(getHitCount())
+                .append(", misses=").append(getMissCount())
+                .append(", oversized=").append(oversizedMisses)
+                .append(", releases=").append(releases)
+                .append(", pooledBytes=").append(pooledBytes);
+        for (int i = 0; i <= MAX_CLASS; i++) {
+            if (hits[i] != 0 || misses[i] != 0) {
+                sb.append(", ").append(1 << i).append(": ").append(hits[i]).append('/').append(misses[i]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    private ArrayBuffer acquire(int capacity) {
+        ArrayBuffer memory;
+        if (capacity > maxPooledSize) {
+            oversizedMisses++;
+            memory = new ArrayBuffer(capacity);
+            Js.asPropertyMap(memory).set(OWNER, this);
+            return memory;
+        }
+        int sizeClass = sizeClass(capacity);
+        int size = 1 << sizeClass;
+        List<ArrayBuffer> list = free.get(sizeClass);
+        if (!list.isEmpty()) {
+            hits[sizeClass]++;
+            memory = list.remove(list.size() - 1);
+            pooledBytes -= size;
+            if (debug) {
+                checkPoison(memory);
+            }
+            new Uint8Array(memory).fill(0);
+        } else {
+            misses[sizeClass]++;
+            memory = new ArrayBuffer(size);
+            Js.asPropertyMap(memory).set(OWNER, this);
+        }
+        if (leakRegistry != null) {
+            leakRegistry.register(memory, capacity, memory);
+        }
+        return memory;
+    }
+
+    private static void checkPoison(ArrayBuffer memory) {
+        Int32Array words = new Int32Array(memory);
+        for (int i = 0, n = words.length; i < n; i++) {
+            if (Elements.get(words, i) != POISON_WORD) {
+                throw new IllegalStateException("Memory written after release, at byte " + (i << 2));
+            }
+        }
+    }
+
+    /** Returns the smallest size class that holds the given number of bytes. */
+    private static int sizeClass(int size) {
+        int sizeClass = 32 - Integer.numberOfLeadingZeros(size - 1);
+        return sizeClass < MIN_CLASS ? MIN_CLASS : sizeClass;
+    }
+
+    @JsProperty(namespace = JsPackage.GLOBAL, name = "FinalizationRegistry")
+    private static native Object finalizationRegistryConstructor();
+
+    static boolean isFinalizationRegistrySupported() {
+        try {
+            return "function".equals(Js.typeof(finalizationRegistryConstructor()));
+        } catch (Exception e) {
+            // not even declared
+            return false;
+        }
+    }
+
+    @JsType(isNative = true, namespace = JsPackage.GLOBAL)
+    static class FinalizationRegistry {
+        @JsFunction
+        interface CleanupCallback {
+            void onCleanup(Object heldValue);
+        }
+
+        FinalizationRegistry(CleanupCallback cleanup) {
+        }
+
+        native void register(Object target, Object heldValue, Object unregisterToken);
+
+        native boolean unregister(Object unregisterToken);
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Int8Array;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Writes data of unknown size into a byte buffer that grows as needed, for building messages
+ * without guessing their size up front.
+ * <p>
+ * Where the platform supports resizable {@code ArrayBuffer}s, the memory grows in place up to a
+ * reserved maximum, without copying. Elsewhere, and beyond that maximum, the memory is replaced by
+ * one of twice the size and the written bytes are copied over with {@code TypedArray.set}, so
+ * that building takes amortised linear time either way.
+ * </p>
+ * <p>
+ * {@link #toByteBuffer()} returns the written bytes without copying them.
+ * </p>
+ */
+public final class ByteBufferBuilder {
+
+    /** The smallest maximum size resizable memory reserves by default, one WebAssembly page. */
+    private static final int MIN_DEFAULT_MAX_RESIZABLE = 1 << 16;
+
+    private final int maxResizable;
+    private ArrayBuffer memory;
+    private boolean resizable;
+    /** Covers all of {@link #memory}, its position is where the next byte is written. */
+    private ByteBuffer buffer;
+    private ByteOrder order = ByteOrder.BIG_ENDIAN;
+
+    /** Creates a builder with an initial capacity of 256 bytes. */
+    public ByteBufferBuilder() {
+        this(256);
+    }
+
+    /**
+     * Creates a builder whose memory grows in place up to sixteen times the initial capacity, but
+     * at least 64 KiB, and is copied beyond that.
+     *
+     * @param initialCapacity the number of bytes that can be written before the memory grows.
+     */
+    public ByteBufferBuilder(int initialCapacity) {
+        this(initialCapacity, defaultMaxResizable(initialCapacity));
+    }
+
+    /**
+     * @param initialCapacity the number of bytes that can be written before the memory grows.
+     * @param maxResizable the size up to which resizable memory grows in place. The platform
+     *                     reserves address space for this many bytes.
+     */
+    public ByteBufferBuilder(int initialCapacity, int maxResizable) {
+        if (initialCapacity < 0 || maxResizable < initialCapacity) {
+            throw new IllegalArgumentException();
+        }
+        this.maxResizable = maxResizable;
+        this.memory = createResizable(initialCapacity, maxResizable);
+        this.resizable = memory != null;
+        if (!resizable) {
+            memory = new ArrayBuffer(initialCapacity);
+        }
+        this.buffer = ByteBuffer.wrapArrayBuffer(memory, initialCapacity, 0);
+    }
+
+    /** Returns the byte order multi-byte values are written in, big-endian by default. */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /** Sets the byte order multi-byte values are written in. */
+    public ByteBufferBuilder order(ByteOrder order) {
+        this.order = order;
+        buffer.order(order);
+        return this;
+    }
+
+    /** Returns the number of bytes written so far. */
+    public int length() {
+        return buffer.position();
+    }
+
+    /** Returns the number of bytes that can be written before the memory grows. */
+    public int capacity() {
+        return buffer.capacity();
+    }
+
+    /** Throws away everything written, keeping the memory. */
+    public ByteBufferBuilder clear() {
+        buffer.clear();
+        return this;
+    }
+
+    /**
+     * Makes sure that at least {@code count} more bytes can be written without growing, and
+     * returns a buffer positioned at the end of the written bytes to write them to directly.
+     * The builder advances past whatever is written to the returned buffer before it is used
+     * again.
+     */
+    public ByteBuffer ensureRemaining(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        if (buffer.remaining() < count) {
+            grow(buffer.position() + count);
+        }
+        return buffer;
+    }
+
+    public ByteBufferBuilder put(byte b) {
+        ensureRemaining(1).put(b);
+        return this;
+    }
+
+    public ByteBufferBuilder put(byte[] src) {
+        return put(src, 0, src.length);
+    }
+
+    public ByteBufferBuilder put(byte[] src, int offset, int length) {
+        ensureRemaining(length).put(src, offset, length);
+        return this;
+    }
+
+    /** Writes the remaining bytes of {@code src}, advancing its position to its limit. */
+    public ByteBufferBuilder put(ByteBuffer src) {
+        ensureRemaining(src.remaining()).put(src);
+        return this;
+    }
+
+    public ByteBufferBuilder putChar(char value) {
+        ensureRemaining(2).putChar(value);
+        return this;
+    }
+
+    public ByteBufferBuilder putShort(short value) {
+        ensureRemaining(2).putShort(value);
+        return this;
+    }
+
+    public ByteBufferBuilder putInt(int value) {
+        ensureRemaining(4).putInt(value);
+        return this;
+    }
+
+    public ByteBufferBuilder putLong(long value) {
+        ensureRemaining(8).putLong(value);
+        return this;
+    }
+
+    public ByteBufferBuilder putFloat(float value) {
+        ensureRemaining(4).putFloat(value);
+        return this;
+    }
+
+    public ByteBufferBuilder putDouble(double value) {
+        ensureRemaining(8).putDouble(value);
+        return this;
+    }
+
+    /**
+     * Returns the written bytes as a buffer with position zero and limit {@link #length()}, in
+     * this builder's byte order. The buffer shares its memory with the builder, so writing more
+     * afterwards may or may not be visible through it, and it stops reflecting the builder once
+     * the memory has been replaced.
+     */
+    public ByteBuffer toByteBuffer() {
+        ByteBuffer result = ByteBuffer.wrapArrayBuffer(memory, buffer.position(), 0);
+        result.order(order);
+        return result;
+    }
+
+    private void grow(int required) {
+        if (required < 0) {
+            // OutOfMemoryError is not emulated by J2CL
+            throw new IllegalStateException("Cannot grow beyond " + Integer.MAX_VALUE + " bytes");
+        }
+        int current = buffer.capacity();
+        int capacity = Math.max(required, current > (Integer.MAX_VALUE >> 1) ? Integer.MAX_VALUE : current << 1);
+        int position = buffer.position();
+        if (resizable && required <= maxResizable) {
+            // in place, the written bytes stay where they are
+            capacity = Math.min(capacity, maxResizable);
+            Js.<ResizableArrayBuffer>uncheckedCast(memory).resize(capacity);
+        } else {
+            ArrayBuffer grown = new ArrayBuffer(capacity);
+            new Int8Array(grown).set(new Int8Array(memory, 0, position));
+            memory = grown;
+            resizable = false;
+        }
+        buffer = ByteBuffer.wrapArrayBuffer(memory, capacity, 0);
+        buffer.order(order);
+        buffer.position(position);
+    }
+
+    /** Returns sixteen times {@code initialCapacity}, at least 64 KiB and at most 2 GiB. */
+    static int defaultMaxResizable(int initialCapacity) {
+        if (initialCapacity > (Integer.MAX_VALUE >> 4)) {
+            return Integer.MAX_VALUE;
+        }
+        return Math.max(MIN_DEFAULT_MAX_RESIZABLE, initialCapacity << 4);
+    }
+
+    /** Returns resizable memory, or {@code null} where resizable memory is not supported. */
+    private static ArrayBuffer createResizable(int length, int maxByteLength) {
+        ArrayBuffer memory;
+        try {
+            memory = new ResizableArrayBuffer(length, JsPropertyMap.of("maxByteLength", maxByteLength));
+        } catch (Exception e) {
+            // the platform cannot reserve that much
+            return null;
+        }
+        // older platforms ignore the options
+        return Js.isTruthy(Js.asPropertyMap(memory).get("resizable")) ? memory : null;
+    }
+
+    @JsType(isNative = true, name = "ArrayBuffer", namespace = JsPackage.GLOBAL)
+    private static class ResizableArrayBuffer extends ArrayBuffer {
+        ResizableArrayBuffer(int length, JsPropertyMap<Object> options) {
+            super(length);
+        }
+
+        native void resize(int newLength);
+    }
+}
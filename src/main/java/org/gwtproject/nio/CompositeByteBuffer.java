@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBufferView;
+import elemental2.core.DataView;
+import elemental2.core.Int8Array;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.ReadOnlyBufferException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads a sequence of typed array chunks, as they arrive from the network or a stream, as if they
+ * were one byte buffer, without concatenating them.
+ * <p>
+ * Reads are relative, from the current position, and may span chunk boundaries. Reads that stay
+ * within one chunk go straight to that chunk's memory; only values split across chunks are put
+ * together byte by byte. Chunks are let go as soon as they have been read completely, so that
+ * their memory can be garbage collected while more chunks are appended.
+ * </p>
+ * <p>
+ * The chunks are not copied, so they must not be changed while they are part of this buffer. At
+ * most 2 GB may be buffered at a time, while the position counts on past 2 GB, as a
+ * {@code double} to avoid emulated {@code long} arithmetic.
+ * </p>
+ */
+public final class CompositeByteBuffer {
+
+    private final List<Int8Array> chunks = new ArrayList<>();
+    /** Index in {@link #chunks} of the chunk being read, chunks before it have been let go. */
+    private int head;
+    private Int8Array current;
+    /** Created when a multi-byte value is first read from {@link #current}. */
+    private DataView currentView;
+    private int currentPosition;
+    /** Holds values split across chunks. */
+    private Int8Array scratch;
+    private DataView scratchView;
+    /** Where the value being read is, see {@link #prepare(int)}. */
+    private DataView value;
+
+    private double position;
+    private int remaining;
+    private ByteOrder order = ByteOrder.BIG_ENDIAN;
+    private boolean littleEndian;
+
+    /** Creates an empty buffer, see {@link #append(ArrayBufferView)}. */
+    public CompositeByteBuffer() {
+    }
+
+    /** Creates a buffer over the given chunks, in order. */
+    public CompositeByteBuffer(ArrayBufferView... chunks) {
+        for (ArrayBufferView chunk : chunks) {
+            append(chunk);
+        }
+    }
+
+    /**
+     * Appends a chunk after the ones already present.
+     *
+     * @throws BufferOverflowException if more than 2 GB would be left to read.
+     */
+    public CompositeByteBuffer append(ArrayBufferView chunk) {
+        int length = chunk.byteLength;
+        if (length > Integer.MAX_VALUE - remaining) {
+            throw new BufferOverflowException();
+        }
+        if (length > 0) {
+            chunks.add(new Int8Array(chunk.buffer, chunk.byteOffset, length));
+            remaining += length;
+        }
+        return this;
+    }
+
+    /** Appends the remaining bytes of a byte buffer, without changing its position. */
+    public CompositeByteBuffer append(ByteBuffer buffer) {
+        ArrayBufferView view = TypedArrayHelper.unwrap(buffer);
+        return append(new Int8Array(view.buffer, view.byteOffset + buffer.position(), buffer.remaining()));
+    }
+
+    /** Returns the byte order multi-byte values are read in, big-endian by default. */
+    public ByteOrder order() {
+        return order;
+    }
+
+    /** Sets the byte order multi-byte values are read in. */
+    public CompositeByteBuffer order(ByteOrder order) {
+        this.order = order;
+        this.littleEndian = order == ByteOrder.LITTLE_ENDIAN;
+        return this;
+    }
+
+    /** Returns the number of bytes read since this buffer was created, which may exceed 2 GB. */
+    public double position() {
+        return position;
+    }
+
+    /** Returns the number of bytes left to read. */
+    public int remaining() {
+        return remaining;
+    }
+
+    public boolean hasRemaining() {
+        return remaining != 0;
+    }
+
+    /** Returns the number of chunks that still hold bytes to read. */
+    public int chunkCount() {
+        return chunks.size() - head + (current != null ? 1 : 0);
+    }
+
+    /** Skips the given number of bytes. */
+    public CompositeByteBuffer skip(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException();
+        }
+        checkRemaining(count);
+        while (count > 0) {
+            int step = Math.min(count, available());
+            advance(step);
+            count -= step;
+        }
+        return this;
+    }
+
+    public byte get() {
+        checkRemaining(1);
+        available();
+        byte b = Elements.get(current, currentPosition);
+        advance(1);
+        return b;
+    }
+
+    /** Reads {@code len} bytes into {@code dest}, starting at {@code off}. */
+    public CompositeByteBuffer get(byte[] dest, int off, int len) {
+        if (off < 0 || len < 0 || off > dest.length - len) {
+            throw new IndexOutOfBoundsException();
+        }
+        checkRemaining(len);
+        while (len > 0) {
+            int step = Math.min(len, available());
+            Elements.copy(current, currentPosition, dest, off, step);
+            advance(step);
+            off += step;
+            len -= step;
+        }
+        return this;
+    }
+
+    public CompositeByteBuffer get(byte[] dest) {
+        return get(dest, 0, dest.length);
+    }
+
+    /**
+     * Reads as many bytes as {@code dest} has remaining into it, one native copy per chunk.
+     *
+     * @throws ReadOnlyBufferException if {@code dest} is read-only.
+     * @throws IllegalStateException if the memory of {@code dest} has been transferred.
+     */
+    public CompositeByteBuffer get(ByteBuffer dest) {
+        if (dest.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        if (TypedArrayHelper.isDetached(dest)) {
+            throw new IllegalStateException("The memory of the buffer has been transferred");
+        }
+        int len = dest.remaining();
+        checkRemaining(len);
+        ArrayBufferView view = TypedArrayHelper.unwrap(dest);
+        Int8Array target = new Int8Array(view.buffer, view.byteOffset + dest.position(), len);
+        int offset = 0;
+        while (offset < len) {
+            int step = Math.min(len - offset, available());
+            target.set(current.<Int8Array>subarray(currentPosition, currentPosition + step), offset);
+            advance(step);
+            offset += step;
+        }
+        dest.position(dest.position() + len);
+        return this;
+    }
+
+    public short getShort() {
+        int offset = prepare(2);
+        return (short) value.getInt16(offset, littleEndian);
+    }
+
+    public char getChar() {
+        int offset = prepare(2);
+        return (char) value.getUint16(offset, littleEndian);
+    }
+
+    public int getInt() {
+        int offset = prepare(4);
+        return (int) value.getInt32(offset, littleEndian);
+    }
+
+    public long getLong() {
+        int offset = prepare(8);
+        int first = (int) value.getInt32(offset, littleEndian);
+        int second = (int) value.getInt32(offset + 4, littleEndian);
+        int hi = littleEndian ? second : first;
+        int lo = littleEndian ? first : second;
+        return Numbers.toLong(hi, lo);
+    }
+
+    public float getFloat() {
+        int offset = prepare(4);
+        return (float) value.getFloat32(offset, littleEndian);
+    }
+
+    public double getDouble() {
+        int offset = prepare(8);
+        return value.getFloat64(offset, littleEndian);
+    }
+
+    /**
+     * Points {@link #value} at memory holding the next {@code size} bytes and moves past them.
+     *
+     * @return the offset of the bytes in {@link #value}.
+     */
+    private int prepare(int size) {
+        checkRemaining(size);
+        if (available() >= size) {
+            // fast path, the value is within the current chunk
+            if (currentView == null) {
+                currentView = new DataView(current.buffer, current.byteOffset, current.byteLength);
+            }
+            value = currentView;
+            int offset = currentPosition;
+            advance(size);
+            return offset;
+        }
+        if (scratch == null) {
+            scratch = new Int8Array(8);
+            scratchView = new DataView(scratch.buffer);
+        }
+        for (int i = 0; i < size; i++) {
+            available();
+            Elements.set(scratch, i, Elements.get(current, currentPosition));
+            advance(1);
+        }
+        value = scratchView;
+        return 0;
+    }
+
+    /** Returns the number of bytes left in the current chunk, moving to the next chunk if there are none. */
+    private int available() {
+        if (current == null) {
+            current = chunks.get(head);
+            chunks.set(head++, null);
+            currentPosition = 0;
+            if (head > 16 && head > chunks.size() >> 1) {
+                // drop the slots of chunks that have been let go
+                chunks.subList(0, head).clear();
+                head = 0;
+            }
+        }
+        return current.length - currentPosition;
+    }
+
+    private void advance(int count) {
+        currentPosition += count;
+        position += count;
+        remaining -= count;
+        if (currentPosition == current.length) {
+            current = null;
+            currentView = null;
+        }
+    }
+
+    private void checkRemaining(int count) {
+        if (count > remaining) {
+            throw new BufferUnderflowException();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "CompositeByteBuffer[position=" + position + ", remaining=" + remaining
+                + ", chunks=" + chunkCount() + "]";
+    }
+}
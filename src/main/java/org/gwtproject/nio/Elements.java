@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.Float32Array;
+import elemental2.core.Float64Array;
+import elemental2.core.Int16Array;
+import elemental2.core.Int32Array;
+import elemental2.core.Int8Array;
+import elemental2.core.Uint16Array;
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsArrayLike;
+
+/**
+ * Reads and writes single elements of typed arrays. Reading through {@code getAt} casts every
+ * element to {@code Double} and narrows it back with a call, for what is a single
+ * {@code array[index]} in JavaScript. The getters see the typed array as the Java array of the
+ * matching element type instead, which J2CL and GWT compile to plain indexed access, and inline.
+ * Java arrays are JavaScript arrays, and every typed array yields exactly the values of its Java
+ * counterpart.
+ * <p>
+ * The setters stay with {@code setAt}, which is a plain indexed store already: a store into a Java
+ * array would be checked against the array's element type, which typed arrays do not carry.
+ * <p>
+ * The same check makes copying into a Java array element by element expensive, even though a
+ * primitive array has nothing to check; the {@code copy} methods store without it.
+ * <p>
+ * Copying from a Java array into a typed array is native: {@code TypedArray.set} takes a whole
+ * Java array as is, and a range of one as a slice. Short ranges are looped over instead, where
+ * slicing costs more than it saves, and long ones are sliced in chunks, so that no large
+ * temporary array is allocated.
+ * <p>
+ * No bounds are checked, as with typed arrays, reads outside the array return {@code undefined}
+ * and writes are ignored.
+ */
+public final class Elements {
+
+    /** Below this many elements, a loop copies a range as fast as a slice does. */
+    private static final int SLICE_THRESHOLD = 256;
+
+    /** The number of elements sliced at a time, larger slices are slower to allocate. */
+    private static final int SLICE_CHUNK = 4096;
+
+    private Elements() {
+    }
+
+    public static byte get(Int8Array array, int index) {
+        return Js.<byte[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Int8Array array, int index, byte value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static int get(Uint8Array array, int index) {
+        return Js.<int[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Uint8Array array, int index, int value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static short get(Int16Array array, int index) {
+        return Js.<short[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Int16Array array, int index, short value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static char get(Uint16Array array, int index) {
+        return Js.<char[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Uint16Array array, int index, char value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static int get(Int32Array array, int index) {
+        return Js.<int[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Int32Array array, int index, int value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static float get(Float32Array array, int index) {
+        return Js.<float[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Float32Array array, int index, float value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static double get(Float64Array array, int index) {
+        return Js.<double[]>uncheckedCast(array)[index];
+    }
+
+    public static void set(Float64Array array, int index, double value) {
+        array.setAt(index, (double) value);
+    }
+
+    public static void copy(Int8Array src, int srcIndex, byte[] dest, int destIndex, int length) {
+        byte[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(Uint16Array src, int srcIndex, char[] dest, int destIndex, int length) {
+        char[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(Int16Array src, int srcIndex, short[] dest, int destIndex, int length) {
+        short[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(Int32Array src, int srcIndex, int[] dest, int destIndex, int length) {
+        int[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(Float32Array src, int srcIndex, float[] dest, int destIndex, int length) {
+        float[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(Float64Array src, int srcIndex, double[] dest, int destIndex, int length) {
+        double[] source = Js.uncheckedCast(src);
+        JsArrayLike<Double> target = Js.uncheckedCast(dest);
+        for (int i = 0; i < length; i++) {
+            target.setAt(destIndex + i, (double) source[srcIndex + i]);
+        }
+    }
+
+    public static void copy(byte[] src, int srcIndex, Int8Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(Js.<double[]>uncheckedCast(src), destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, (double) src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    public static void copy(char[] src, int srcIndex, Uint16Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(Js.<double[]>uncheckedCast(src), destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, (double) src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    public static void copy(short[] src, int srcIndex, Int16Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(Js.<double[]>uncheckedCast(src), destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, (double) src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    public static void copy(int[] src, int srcIndex, Int32Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(Js.<double[]>uncheckedCast(src), destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, (double) src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    public static void copy(float[] src, int srcIndex, Float32Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(Js.<double[]>uncheckedCast(src), destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, (double) src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    public static void copy(double[] src, int srcIndex, Float64Array dest, int destIndex, int length) {
+        if (srcIndex == 0 && length == src.length) {
+            dest.set(src, destIndex);
+        } else if (length < SLICE_THRESHOLD) {
+            for (int i = 0; i < length; i++) {
+                dest.setAt(destIndex + i, src[srcIndex + i]);
+            }
+        } else {
+            for (int done = 0; done < length; done += SLICE_CHUNK) {
+                dest.set(slice(src, srcIndex + done, length - done), destIndex + done);
+            }
+        }
+    }
+
+    /** Returns a copy of at most {@link #SLICE_CHUNK} elements of a Java array from the given index. */
+    private static double[] slice(Object array, int from, int remaining) {
+        int end = from + Math.min(remaining, SLICE_CHUNK);
+        return Js.<NativeArray>uncheckedCast(array).slice(from, end);
+    }
+
+    @JsType(isNative = true, name = "Array", namespace = JsPackage.GLOBAL)
+    private static class NativeArray {
+        native double[] slice(int begin, int end);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Uint8Array;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+/**
+ * Carves short-lived buffers out of one large {@code ArrayBuffer} by moving a pointer forward,
+ * for buffers that all die at the same time, like the temporary buffers of one frame or one
+ * request.
+ * <p>
+ * {@link #reset()} reclaims every buffer at once, in constant time. Buffers handed out before a
+ * reset must not be used after it, as their memory is handed out again.
+ * </p>
+ * <p>
+ * Every buffer starts at a multiple of its alignment, 8 bytes unless stated otherwise, so that
+ * its typed views can be backed by typed arrays. Like {@link ByteBuffer#allocate(int)}, every
+ * buffer starts out filled with zeros. Requests that do not fit the remaining memory are
+ * allocated outside the arena and counted, see {@link #getOverflowCount()}.
+ * </p>
+ */
+public final class FrameArena {
+
+    private static final int DEFAULT_ALIGNMENT = 8;
+
+    private final ArrayBuffer memory;
+    private final Uint8Array bytes;
+    private final int capacity;
+
+    /** Offset of the next free byte. */
+    private int top;
+    /** End of the memory that was handed out since creation and may not be zero any more. */
+    private int dirty;
+    private int highWaterMark;
+    private int overflows;
+
+    /**
+     * @param capacity the size of the arena's memory, in bytes.
+     */
+    public FrameArena(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.memory = new ArrayBuffer(capacity);
+        this.bytes = new Uint8Array(memory);
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a byte buffer of the given capacity, aligned to 8 bytes, in big-endian order like
+     * {@link ByteBuffer#allocate(int)}.
+     */
+    public ByteBuffer allocate(int capacity) {
+        return allocate(capacity, DEFAULT_ALIGNMENT);
+    }
+
+    /**
+     * Returns a byte buffer of the given capacity, starting at a multiple of {@code alignment}
+     * bytes of the arena's memory, in big-endian order.
+     *
+     * @param alignment a power of two.
+     * @throws IllegalArgumentException if {@code capacity < 0} or {@code alignment} is not a power
+     *         of two.
+     */
+    public ByteBuffer allocate(int capacity, int alignment) {
+        if (capacity < 0 || alignment <= 0 || (alignment & (alignment - 1)) != 0) {
+            throw new IllegalArgumentException();
+        }
+        int start = (top + alignment - 1) & -alignment;
+        if (start < 0 || start > this.capacity - capacity) {
+            overflows++;
+            return ByteBuffer.allocate(capacity);
+        }
+        int end = start + capacity;
+        if (start < dirty) {
+            // handed out before the last reset
+            bytes.fill(0, start, Math.min(end, dirty));
+        }
+        top = end;
+        if (end > dirty) {
+            dirty = end;
+        }
+        if (end > highWaterMark) {
+            highWaterMark = end;
+        }
+        return ByteBuffer.wrapArrayBuffer(memory, capacity, start);
+    }
+
+    /** Returns a float buffer of the given capacity, in native order like {@link FloatBuffer#allocate(int)}. */
+    public FloatBuffer allocateFloats(int capacity) {
+        return allocate(capacity * 4).order(ByteOrder.nativeOrder()).asFloatBuffer();
+    }
+
+    /** Returns an int buffer of the given capacity, in native order like {@link IntBuffer#allocate(int)}. */
+    public IntBuffer allocateInts(int capacity) {
+        return allocate(capacity * 4).order(ByteOrder.nativeOrder()).asIntBuffer();
+    }
+
+    /** Returns a short buffer of the given capacity, in native order like {@link ShortBuffer#allocate(int)}. */
+    public ShortBuffer allocateShorts(int capacity) {
+        return allocate(capacity * 2).order(ByteOrder.nativeOrder()).asShortBuffer();
+    }
+
+    /**
+     * Reclaims all buffers handed out so far. Their memory is zeroed lazily, when it is handed out
+     * again.
+     */
+    public void reset() {
+        top = 0;
+    }
+
+    /** Returns the size of the arena's memory, in bytes. */
+    public int capacity() {
+        return capacity;
+    }
+
+    /** Returns the number of bytes handed out since the last reset, including alignment padding. */
+    public int used() {
+        return top;
+    }
+
+    /** Returns the number of bytes left before requests overflow, ignoring alignment. */
+    public int remaining() {
+        return capacity - top;
+    }
+
+    /** Returns the largest number of bytes that was in use at any time, to help size the arena. */
+    public int getHighWaterMark() {
+        return highWaterMark;
+    }
+
+    /** Returns the number of requests that did not fit and were allocated outside the arena. */
+    public int getOverflowCount() {
+        return overflows;
+    }
+
+    @Override
+    public String toString() {
+        return "FrameArena[used=" + top + ", capacity=" + capacity
+                + ", highWaterMark=" + highWaterMark + ", overflows=" + overflows + "]";
+    }
+}
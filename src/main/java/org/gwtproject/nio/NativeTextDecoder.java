@@ -0,0 +1,30 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBufferView;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
+
+/** The platform's {@code TextDecoder}, which {@link TextCodec#UTF_8} decodes with. */
+@JsType(isNative = true, name = "TextDecoder", namespace = JsPackage.GLOBAL)
+class NativeTextDecoder {
+    NativeTextDecoder(String label, JsPropertyMap<Object> options) {
+    }
+
+    native String decode(ArrayBufferView input, JsPropertyMap<Object> options);
+}
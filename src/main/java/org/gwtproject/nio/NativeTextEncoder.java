@@ -0,0 +1,27 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.Uint8Array;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.JsPropertyMap;
+
+/** The platform's UTF-8 {@code TextEncoder}, which {@link TextCodec#UTF_8} encodes with. */
+@JsType(isNative = true, name = "TextEncoder", namespace = JsPackage.GLOBAL)
+class NativeTextEncoder {
+    native JsPropertyMap<Object> encodeInto(String source, Uint8Array destination);
+}
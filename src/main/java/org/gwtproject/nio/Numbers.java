@@ -20,55 +20,139 @@ import elemental2.core.Float64Array;
 import elemental2.core.Int32Array;
 import elemental2.core.Int8Array;
 
+import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 
 public class Numbers {
-    static Int8Array wba = new Int8Array(8);
-    static Int32Array wia = new Int32Array(wba.buffer, 0, 2);
-    static Float32Array wfa = new Float32Array(wba.buffer, 0, 2);
-    static Float64Array wda = new Float64Array(wba.buffer, 0, 1);
+    /*
+     * Scratch memory for the bit conversions. It is created on first use rather than in a static
+     * initializer, so this class has no clinit to check on every call and apps that never convert
+     * don't allocate it.
+     */
+    private static Int8Array wba;
+    private static Int32Array wia;
+    private static Float32Array wfa;
+    private static Float64Array wda;
+
+    private static void ensureScratch() {
+        if (wba == null) {
+            Int8Array bytes = new Int8Array(8);
+            wia = new Int32Array(bytes.buffer, 0, 2);
+            wfa = new Float32Array(bytes.buffer, 0, 2);
+            wda = new Float64Array(bytes.buffer, 0, 1);
+            wba = bytes;
+        }
+    }
 
     public static final int floatToIntBits(float f) {
-        wfa.setAt(0, (double) f);
-        return (int)(double)wia.getAt(0);
+        ensureScratch();
+        Elements.set(wfa, 0, f);
+        return Elements.get(wia, 0);
     }
 
     public static final float intBitsToFloat(int i) {
-        wia.setAt(0, (double) i);
-        return (float)(double)wfa.getAt(0);
+        ensureScratch();
+        Elements.set(wia, 0, i);
+        return Elements.get(wfa, 0);
     }
 
     public static final double longBitsToDouble(long i) {
-        return Double.longBitsToDouble(i);
+        ensureScratch();
+        Elements.set(wia, 0, (int) i);
+        Elements.set(wia, 1, (int) (i >>> 32));
+        return Elements.get(wda, 0);
     }
 
     public static final long doubleToRawLongBits(double i) {
-        return Double.doubleToLongBits(i);
+        ensureScratch();
+        Elements.set(wda, 0, i);
+        return toLong(Elements.get(wia, 1), Elements.get(wia, 0));
+    }
+
+    /**
+     * Composes a long from its high and low 32-bit halves. Values within a double's 53-bit range,
+     * such as ids and counters, are built by a single double-to-long conversion rather than by
+     * shifting and OR-ing emulated longs, which allocates at every step under GWT.
+     */
+    public static final long toLong(int high, int low) {
+        if (high >= -0x200000 && high < 0x200000) {
+            // |value| < 2^53, so the double is exact
+            return (long) (high * 4294967296.0 + (low < 0 ? low + 4294967296.0 : low));
+        }
+        return ((long) high << 32) | (low & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the high 32 bits of the long at the given index of a byte buffer, without building
+     * the long.
+     *
+     * @exception IndexOutOfBoundsException if {@code index} is greater than {@code limit - 8}.
+     */
+    public static final int getLongHigh(ByteBuffer buffer, int index) {
+        checkLongIndex(buffer, index);
+        return buffer.getInt(buffer.order() == ByteOrder.BIG_ENDIAN ? index : index + 4);
+    }
+
+    /**
+     * Returns the low 32 bits of the long at the given index of a byte buffer, without building
+     * the long.
+     *
+     * @exception IndexOutOfBoundsException if {@code index} is greater than {@code limit - 8}.
+     */
+    public static final int getLongLow(ByteBuffer buffer, int index) {
+        checkLongIndex(buffer, index);
+        return buffer.getInt(buffer.order() == ByteOrder.BIG_ENDIAN ? index + 4 : index);
+    }
+
+    /**
+     * Writes the long with the given 32-bit halves to the given index of a byte buffer, with the
+     * same result as {@code buffer.putLong(index, toLong(high, low))}.
+     *
+     * @exception IndexOutOfBoundsException if {@code index} is greater than {@code limit - 8}.
+     * @exception java.nio.ReadOnlyBufferException if the buffer is read-only.
+     */
+    public static final void putLong(ByteBuffer buffer, int index, int high, int low) {
+        checkLongIndex(buffer, index);
+        boolean bigEndian = buffer.order() == ByteOrder.BIG_ENDIAN;
+        buffer.putInt(index, bigEndian ? high : low);
+        buffer.putInt(index + 4, bigEndian ? low : high);
+    }
+
+    private static void checkLongIndex(ByteBuffer buffer, int index) {
+        if (index < 0 || index > buffer.limit() - 8) {
+            throw new IndexOutOfBoundsException();
+        }
     }
 
     // TODO(jgw): Ugly hack to avoid longs.
     public static final void setDouble(double d) {
-        wda.setAt(0, d);
+        ensureScratch();
+        Elements.set(wda, 0, d);
     }
 
     public static final double getDouble() {
-        return wda.getAt(0);
+        ensureScratch();
+        return Elements.get(wda, 0);
     }
 
     public static final int getLoInt() {
-        return (int)(double)wia.getAt(0);
+        ensureScratch();
+        return Elements.get(wia, 0);
     }
 
     public static final int getHiInt() {
-        return (int)(double)wia.getAt(1);
+        ensureScratch();
+        return Elements.get(wia, 1);
     }
 
     public static final void setLoInt(int i) {
-        wia.setAt(0, (double)i);
+        ensureScratch();
+        Elements.set(wia, 0, i);
     }
 
     public static final void setHiInt(int i) {
-        wia.setAt(1, (double)i);
+        ensureScratch();
+        Elements.set(wia, 1, i);
     }
 
     /**
@@ -76,10 +160,16 @@ public class Numbers {
      * bytes back to the specified array at the given offset.
      */
     public static final void writeDoubleBytes(Int8Array byteArray, int offset, double value, ByteOrder order) {
-        //TODO compare order with nativeOrder, if they don't match then copy data backward
-        wda.setAt(0, value);
-        for (int i = 0; i < 8; i++) {
-            byteArray.setAt(i + offset, wba.getAt(i));
+        ensureScratch();
+        Elements.set(wda, 0, value);
+        if (order == ByteOrder.nativeOrder()) {
+            for (int i = 0; i < 8; i++) {
+                Elements.set(byteArray, i + offset, Elements.get(wba, i));
+            }
+        } else {
+            for (int i = 0; i < 8; i++) {
+                Elements.set(byteArray, i + offset, Elements.get(wba, 7 - i));
+            }
         }
     }
 
@@ -88,10 +178,16 @@ public class Numbers {
      * the double value that those bytes represent.
      */
     public static final double readDoubleBytes(Int8Array byteArray, int offset, ByteOrder order) {
-        //TODO compare order with nativeOrder, if they don't match then copy data backward
-        for (int i = 0; i < 8; i++) {
-            wba.setAt(i, byteArray.getAt(offset + i));
+        ensureScratch();
+        if (order == ByteOrder.nativeOrder()) {
+            for (int i = 0; i < 8; i++) {
+                Elements.set(wba, i, Elements.get(byteArray, offset + i));
+            }
+        } else {
+            for (int i = 0; i < 8; i++) {
+                Elements.set(wba, 7 - i, Elements.get(byteArray, offset + i));
+            }
         }
-        return wda.getAt(0);
+        return Elements.get(wda, 0);
     }
 }
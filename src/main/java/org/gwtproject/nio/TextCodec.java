@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio;
+
+import elemental2.core.ArrayBufferView;
+import elemental2.core.Uint8Array;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.Charset;
+import java.nio.charset.UnsupportedCharsetException;
+
+/**
+ * Encodes and decodes text between Java strings and byte buffers, standing in for
+ * {@code Charset.newEncoder()} and {@code Charset.newDecoder()}, which the GWT and J2CL JRE
+ * emulation of {@link Charset} does not offer.
+ * <p>
+ * UTF-8 is encoded with {@code TextEncoder.encodeInto} directly into the byte buffer's memory,
+ * and decoded with a streaming {@code TextDecoder} reading a view of the buffer's remaining
+ * bytes. UTF-16 and ISO-8859-1 are converted with plain typed array loops.
+ * </p>
+ * <p>
+ * Malformed input is replaced rather than reported, like {@code String.getBytes} and
+ * {@code new String(byte[], Charset)} do. A leading byte order mark is decoded as
+ * {@code U+FEFF} rather than dropped, also like the JDK.
+ * </p>
+ */
+public abstract class TextCodec {
+
+    public static final TextCodec UTF_8 = new Utf8Codec();
+    public static final TextCodec UTF_16BE = new Utf16Codec("UTF-16BE", false);
+    public static final TextCodec UTF_16LE = new Utf16Codec("UTF-16LE", true);
+    public static final TextCodec ISO_8859_1 = new Latin1Codec();
+
+    /**
+     * Returns the codec for the given charset name, accepting the same canonical names and
+     * common aliases as {@link Charset#forName(String)}.
+     *
+     * @throws UnsupportedCharsetException if there is no codec for the given name.
+     */
+    public static TextCodec forName(String charsetName) {
+        String name = charsetName.toUpperCase();
+        if (name.equals("UTF-8") || name.equals("UTF8")) {
+            return UTF_8;
+        }
+        if (name.equals("UTF-16BE") || name.equals("UNICODEBIGUNMARKED")) {
+            return UTF_16BE;
+        }
+        if (name.equals("UTF-16LE") || name.equals("UNICODELITTLEUNMARKED")) {
+            return UTF_16LE;
+        }
+        if (name.equals("ISO-8859-1") || name.equals("ISO8859_1") || name.equals("LATIN1")) {
+            return ISO_8859_1;
+        }
+        throw new UnsupportedCharsetException(charsetName);
+    }
+
+    /** Returns the codec for the given charset, see {@link #forName(String)}. */
+    public static TextCodec forCharset(Charset charset) {
+        return forName(charset.name());
+    }
+
+    private final String name;
+    private final float maxBytesPerChar;
+
+    TextCodec(String name, float maxBytesPerChar) {
+        this.name = name;
+        this.maxBytesPerChar = maxBytesPerChar;
+    }
+
+    /** Returns the canonical name of this codec's charset. */
+    public final String name() {
+        return name;
+    }
+
+    /** Creates a new encoder. Encoders are stateless, but kept as objects for parity with the JDK. */
+    public abstract Encoder newEncoder();
+
+    /** Creates a new decoder, which carries incomplete input over from one call to the next. */
+    public abstract Decoder newDecoder();
+
+    /**
+     * Encodes the given text into a newly allocated byte buffer. The returned buffer's position is
+     * zero and its limit is the number of bytes written.
+     */
+    public final ByteBuffer encode(CharSequence text) {
+        ByteBuffer out = ByteBuffer.allocate((int) Math.ceil(text.length() * maxBytesPerChar));
+        newEncoder().encode(CharBuffer.wrap(text), out, true);
+        out.flip();
+        return out;
+    }
+
+    /** Decodes all remaining bytes of the given buffer into a string. */
+    public final String decode(ByteBuffer in) {
+        return newDecoder().decode(in, true);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /** Converts chars into bytes. */
+    public abstract static class Encoder {
+        /**
+         * Encodes as many of the remaining chars of {@code in} as fit into the remaining space of
+         * {@code out}, advancing both positions. A high surrogate at the end of {@code in} is left
+         * unread unless {@code endOfInput} is set, so that it can be encoded together with its low
+         * surrogate on the next call.
+         *
+         * @return {@code true} if all chars were consumed, {@code false} if {@code out} filled up.
+         * @throws ReadOnlyBufferException if {@code out} is read-only.
+         */
+        public abstract boolean encode(CharBuffer in, ByteBuffer out, boolean endOfInput);
+    }
+
+    /** Converts bytes into chars, carrying incomplete sequences across calls. */
+    public abstract static class Decoder {
+        /**
+         * Decodes all remaining bytes of {@code in}, leaving its position at its limit. Bytes at
+         * the end that do not form a complete character are kept by the decoder and prepended to
+         * the next call, unless {@code endOfInput} is set, in which case they are replaced.
+         */
+        public abstract String decode(ByteBuffer in, boolean endOfInput);
+
+        /** Forgets any incomplete input kept from previous calls. */
+        public abstract void reset();
+    }
+
+    /** Returns a {@code Uint8Array} over the remaining bytes of the given buffer. */
+    static Uint8Array remainingBytes(ByteBuffer buffer) {
+        ArrayBufferView view = TypedArrayHelper.unwrap(buffer);
+        return new Uint8Array(view.buffer, view.byteOffset + buffer.position(), buffer.remaining());
+    }
+
+    /** Returns a {@code Uint8Array} over the remaining space of the given buffer, to encode into. */
+    static Uint8Array remainingSpace(ByteBuffer buffer) {
+        if (buffer.isReadOnly()) {
+            throw new ReadOnlyBufferException();
+        }
+        return remainingBytes(buffer);
+    }
+
+    /** Returns the number of chars of {@code in} that may be encoded now, see {@link Encoder}. */
+    static int encodableLength(CharBuffer in, boolean endOfInput) {
+        int length = in.remaining();
+        if (!endOfInput && length > 0 && Character.isHighSurrogate(in.get(in.limit() - 1))) {
+            length--;
+        }
+        return length;
+    }
+
+    private static final class Utf8Codec extends TextCodec {
+        Utf8Codec() {
+            super("UTF-8", 3);
+        }
+
+        @Override
+        public Encoder newEncoder() {
+            return new Encoder() {
+                private final NativeTextEncoder encoder = new NativeTextEncoder();
+
+                @Override
+                public boolean encode(CharBuffer in, ByteBuffer out, boolean endOfInput) {
+                    int length = encodableLength(in, endOfInput);
+                    String text = in.subSequence(0, length).toString();
+                    JsPropertyMap<Object> result = encoder.encodeInto(text, remainingSpace(out));
+                    int read = Js.asInt(result.get("read"));
+                    int written = Js.asInt(result.get("written"));
+                    in.position(in.position() + read);
+                    out.position(out.position() + written);
+                    return read == length;
+                }
+            };
+        }
+
+        @Override
+        public Decoder newDecoder() {
+            return new Decoder() {
+                // keeps a leading byte order mark, like the JDK's decoder does
+                private final NativeTextDecoder decoder = new NativeTextDecoder("utf-8",
+                        JsPropertyMap.of("ignoreBOM", true));
+
+                @Override
+                public String decode(ByteBuffer in, boolean endOfInput) {
+                    String result = decoder.decode(remainingBytes(in),
+                            JsPropertyMap.of("stream", !endOfInput));
+                    in.position(in.limit());
+                    return result;
+                }
+
+                @Override
+                public void reset() {
+                    // a non-streaming call flushes and clears any pending bytes
+                    decoder.decode(new Uint8Array(0), JsPropertyMap.of("stream", false));
+                }
+            };
+        }
+    }
+
+    private static final class Utf16Codec extends TextCodec {
+        private final boolean littleEndian;
+
+        Utf16Codec(String name, boolean littleEndian) {
+            super(name, 2);
+            this.littleEndian = littleEndian;
+        }
+
+        @Override
+        public Encoder newEncoder() {
+            return new Encoder() {
+                @Override
+                public boolean encode(CharBuffer in, ByteBuffer out, boolean endOfInput) {
+                    int length = encodableLength(in, endOfInput);
+                    Uint8Array bytes = remainingSpace(out);
+                    int count = Math.min(length, bytes.length >> 1);
+                    int start = in.position();
+                    int hi = littleEndian ? 1 : 0;
+                    for (int i = 0; i < count; i++) {
+                        char c = in.get(start + i);
+                        Elements.set(bytes, (i << 1) + hi, c >> 8);
+                        Elements.set(bytes, (i << 1) + (1 - hi), c & 0xFF);
+                    }
+                    in.position(start + count);
+                    out.position(out.position() + (count << 1));
+                    return count == length;
+                }
+            };
+        }
+
+        @Override
+        public Decoder newDecoder() {
+            return new Decoder() {
+                /** The first byte of a char split across calls, or -1. */
+                private int pending = -1;
+
+                @Override
+                public String decode(ByteBuffer in, boolean endOfInput) {
+                    Uint8Array bytes = remainingBytes(in);
+                    int length = bytes.length;
+                    StringBuilder result = new StringBuilder((length + 1) >> 1);
+                    int i = 0;
+                    if (pending != -1 && length > 0) {
+                        result.append(toChar(pending, Elements.get(bytes, 0)));
+                        pending = -1;
+                        i = 1;
+                    }
+                    for (; i + 1 < length; i += 2) {
+                        result.append(toChar(Elements.get(bytes, i),
+                                Elements.get(bytes, i + 1)));
+                    }
+                    if (i < length) {
+                        pending = Elements.get(bytes, i);
+                    }
+                    if (endOfInput && pending != -1) {
+                        result.append('\uFFFD');
+                        pending = -1;
+                    }
+                    in.position(in.limit());
+                    return result.toString();
+                }
+
+                private char toChar(int first, int second) {
+                    return littleEndian ? (char) ((second << 8) | first) : (char) ((first << 8) | second);
+                }
+
+                @Override
+                public void reset() {
+                    pending = -1;
+                }
+            };
+        }
+    }
+
+    private static final class Latin1Codec extends TextCodec {
+        Latin1Codec() {
+            super("ISO-8859-1", 1);
+        }
+
+        @Override
+        public Encoder newEncoder() {
+            return new Encoder() {
+                @Override
+                public boolean encode(CharBuffer in, ByteBuffer out, boolean endOfInput) {
+                    int length = encodableLength(in, endOfInput);
+                    Uint8Array bytes = remainingSpace(out);
+                    int space = bytes.length;
+                    int start = in.position();
+                    int read = 0;
+                    int written = 0;
+                    while (read < length && written < space) {
+                        char c = in.get(start + read++);
+                        if (c > 0xFF) {
+                            if (Character.isHighSurrogate(c) && read < length
+                                    && Character.isLowSurrogate(in.get(start + read))) {
+                                // one replacement for the whole supplementary character
+                                read++;
+                            }
+                            c = '?';
+                        }
+                        Elements.set(bytes, written++, c);
+                    }
+                    in.position(start + read);
+                    out.position(out.position() + written);
+                    return read == length;
+                }
+            };
+        }
+
+        @Override
+        public Decoder newDecoder() {
+            return new Decoder() {
+                @Override
+                public String decode(ByteBuffer in, boolean endOfInput) {
+                    Uint8Array bytes = remainingBytes(in);
+                    int length = bytes.length;
+                    StringBuilder result = new StringBuilder(length);
+                    for (int i = 0; i < length; i++) {
+                        result.append((char) Elements.get(bytes, i));
+                    }
+                    in.position(in.limit());
+                    return result.toString();
+                }
+
+                @Override
+                public void reset() {
+                }
+            };
+        }
+    }
+}
@@ -17,7 +17,9 @@ package org.gwtproject.nio;
 
 import elemental2.core.ArrayBuffer;
 import elemental2.core.ArrayBufferView;
+import elemental2.core.SharedArrayBuffer;
 
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 
 /**
@@ -28,6 +30,9 @@ public class TypedArrayHelper {
     public static ByteBuffer wrap(ArrayBuffer ab) {
         return ByteBuffer.wrapArrayBuffer(ab);
     }
+    public static ByteBuffer wrap(SharedArrayBuffer sab) {
+        return ByteBuffer.wrapArrayBuffer(sab);
+    }
     public static ByteBuffer wrap(ArrayBufferView ab) {
         return ByteBuffer.wrapArrayBuffer(ab.buffer, ab.byteLength, ab.byteOffset);
     }
@@ -35,6 +40,68 @@ public class TypedArrayHelper {
         return bb.getTypedArray();
     }
 
+    /**
+     * Presents the given chunks as one read-only buffer without concatenating them, see
+     * {@link CompositeByteBuffer}.
+     */
+    public static CompositeByteBuffer composite(ArrayBufferView... chunks) {
+        return new CompositeByteBuffer(chunks);
+    }
+
+    /**
+     * Hands the memory of the given buffer over, to post it to a worker as a transferable without
+     * copying. The returned {@code ArrayBuffer} is the whole memory the buffer is a part of.
+     * <p>
+     * Where {@code ArrayBuffer.prototype.transfer} is available the memory is moved into the
+     * returned {@code ArrayBuffer} right away. Otherwise the buffer's own {@code ArrayBuffer} is
+     * returned, and it is detached once posted. Either way, the buffer and all duplicates, slices
+     * and views created from it are then detached, and accessing their elements throws an
+     * {@code IllegalStateException}, unless the {@code gwt.nio.checks} property is
+     * {@code unchecked}. Memory of a {@code SharedArrayBuffer} is never detached.
+     * </p>
+     *
+     * @throws IllegalStateException if the memory has already been transferred.
+     */
+    public static ArrayBuffer transfer(ByteBuffer bb) {
+        return bb.transferArrayBuffer();
+    }
+
+    /**
+     * Points a transferred buffer at memory that came back, typically from the worker it was
+     * posted to, keeping its position, limit, mark and byte order. The buffer is expected to have
+     * the same offset in the returned memory as in the memory it was transferred from, which it
+     * remembers even if it is a slice or duplicate of the buffer that was transferred. Views
+     * created from the buffer before the transfer stay detached, create them again.
+     *
+     * @return {@code bb}.
+     * @throws IllegalStateException if the memory of {@code bb} has not been transferred.
+     * @throws IllegalArgumentException if {@code memory} is too small.
+     */
+    public static ByteBuffer adopt(ByteBuffer bb, ArrayBuffer memory) {
+        return bb.adoptArrayBuffer(memory);
+    }
+
+    /**
+     * Returns whether the memory of the given buffer has been transferred away, see
+     * {@link #transfer(ByteBuffer)}.
+     */
+    public static boolean isDetached(Buffer buffer) {
+        return buffer instanceof HasArrayBufferView && buffer.capacity() != 0
+                && ((HasArrayBufferView) buffer).getTypedArray().byteLength == 0;
+    }
+
+    /**
+     * Allocates a byte buffer over a new {@code SharedArrayBuffer}. Its {@code ArrayBuffer}, as
+     * returned by {@code unwrap(bb).buffer}, can be posted to workers without being copied or
+     * detached, and wrapped there again. Use {@link AtomicAccess} to coordinate on its content.
+     */
+    public static ByteBuffer allocateShared(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException();
+        }
+        return wrap(new SharedArrayBuffer(capacity));
+    }
+
     /** Implemented by ByteBuffer in GWT modes. */
     public interface Wrapper {
         @Deprecated
@@ -0,0 +1,29 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/**
+ * @fileoverview Declares the properties gwt-nio reads with System.getProperty, which J2CL only
+ * resolves for declared defines. Set them with the --define flag of the Closure Compiler, like
+ * --define gwt.nio.checks=unchecked.
+ */
+
+goog.provide('gwt.nio');
+
+/** @define {string} Set to unchecked to compile away the bounds checks of the buffers. */
+gwt.nio.checks = goog.define('gwt.nio.checks', 'checked');
+
+/** @define {string} Set to true to record org.gwtproject.nio.BufferMetrics. */
+gwt.nio.metrics = goog.define('gwt.nio.metrics', 'false');
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+
+/**
+ * @fileoverview Platform APIs used through native JsTypes that the Closure Compiler does not know
+ * yet, so that it does not rename them.
+ * @externs
+ */
+
+/**
+ * @return {!ArrayBuffer}
+ * @see https://tc39.es/proposal-arraybuffer-transfer/
+ */
+ArrayBuffer.prototype.transfer = function() {};
+
+/**
+ * @param {number} newLength
+ * @see https://tc39.es/proposal-resizablearraybuffer/
+ */
+ArrayBuffer.prototype.resize = function(newLength) {};
+
+/** @type {boolean} */
+ArrayBuffer.prototype.resizable;
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.startup;
+
+import jsinterop.annotations.JsMethod;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A minimal app that only writes values to a byte buffer and reads them back, see report.js.
+ * What the compiler keeps of the emulation for it is what any app using buffers pays at load
+ * time.
+ */
+public final class StartupApp {
+
+    private StartupApp() {
+    }
+
+    @JsMethod
+    public static void run() {
+        ByteBuffer buffer = ByteBuffer.allocate(64).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.put((byte) 1).putShort((short) 2).putInt(3).putLong(4L).putFloat(5).putDouble(6);
+        buffer.flip();
+        double sum = buffer.get() + buffer.getShort() + buffer.getInt() + buffer.getLong()
+                + buffer.getFloat() + buffer.getDouble();
+        StartupHost.report(sum);
+    }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+package org.gwtproject.nio.startup;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/** The callback that report.js provides, see host.externs.js. */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "startupHost")
+class StartupHost {
+    /** Receives the app's result, so that its work cannot be optimized away. */
+    static native void report(double result);
+}
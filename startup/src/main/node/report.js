@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 The GWT Project Authors
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ * use this file except in compliance with the License. You may obtain a copy of
+ * the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations under
+ * the License.
+ */
+'use strict';
+
+// Reports the code size and load cost of the minimal app compiled by J2CL.
+//
+//     node report.js <startup.js> [report.json]
+//
+// Loading is timed as compiling and running the script in a fresh context: once cold, then as
+// the median of repeated loads. The typed arrays and ArrayBuffers created while loading are
+// counted in a separate, instrumented load.
+
+const fs = require('fs');
+const vm = require('vm');
+const zlib = require('zlib');
+
+const LOADS = 50;
+const TYPES = ['ArrayBuffer', 'DataView', 'Int8Array', 'Uint8Array', 'Int16Array', 'Uint16Array',
+    'Int32Array', 'Float32Array', 'Float64Array'];
+
+const [script, output] = process.argv.slice(2);
+if (!script) {
+  console.error('usage: node report.js <startup.js> [report.json]');
+  process.exit(2);
+}
+
+const source = fs.readFileSync(script, 'utf8');
+
+function load(counts) {
+  let result;
+  const context = vm.createContext({startupHost: {report: (r) => { result = r; }}});
+  if (counts) {
+    for (const name of TYPES) {
+      counts[name] = 0;
+      context[name] = new Proxy(vm.runInContext(name, context), {
+        construct(target, args, newTarget) {
+          counts[name]++;
+          return Reflect.construct(target, args, newTarget);
+        },
+      });
+    }
+  }
+  const start = performance.now();
+  new vm.Script(source, {filename: script}).runInContext(context);
+  const millis = performance.now() - start;
+  if (result === undefined) {
+    throw new Error('the app did not report a result');
+  }
+  return {millis, result};
+}
+
+const cold = load();
+const times = [];
+for (let i = 0; i < LOADS; i++) {
+  times.push(load().millis);
+}
+times.sort((a, b) => a - b);
+const allocations = {};
+load(allocations);
+
+const report = {
+  bytes: Buffer.byteLength(source),
+  gzipBytes: zlib.gzipSync(source, {level: 9}).length,
+  coldLoadMillis: cold.millis,
+  medianLoadMillis: times[LOADS >> 1],
+  allocations: Object.fromEntries(Object.entries(allocations).filter(([, n]) => n > 0)),
+  result: cold.result,
+  node: process.version,
+  date: new Date().toISOString(),
+};
+
+console.log('size        ' + report.bytes + ' bytes, ' + report.gzipBytes + ' gzipped');
+console.log('cold load   ' + report.coldLoadMillis.toFixed(2) + ' ms');
+console.log('median load ' + report.medianLoadMillis.toFixed(3) + ' ms over ' + LOADS + ' loads');
+console.log('allocated   ' + (Object.entries(report.allocations)
+    .map(([name, n]) => n + ' ' + name).join(', ') || 'nothing'));
+if (output) {
+  fs.writeFileSync(output, JSON.stringify(report, null, 2) + '\n');
+  console.log('Report written to ' + output);
+}